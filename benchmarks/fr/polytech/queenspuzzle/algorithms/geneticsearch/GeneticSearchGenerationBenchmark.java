@@ -0,0 +1,57 @@
+package fr.polytech.queenspuzzle.algorithms.geneticsearch;
+
+import fr.polytech.queenspuzzle.benchmarks.MicroBenchmark;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+
+/**
+ * This class represents the benchmark of one generation of {@link GeneticSearchQueenPuzzleAlgorithmSolver} (roulette wheel and best solutions reproductions, crossovers and mutations).
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class GeneticSearchGenerationBenchmark extends MicroBenchmark {
+
+	/**
+	 * The population size.
+	 */
+	public static final int POPULATION_SIZE = 20;
+
+	/**
+	 * The number of best states.
+	 */
+	public static final int NB_BEST_STATES = 7;
+
+	/**
+	 * The crossover acceptance probability.
+	 */
+	public static final double CROSSOVER_ACCEPTANCE_PROBABILITY = 0.8;
+
+	/**
+	 * The solver.
+	 */
+	private GeneticSearchQueenPuzzleAlgorithmSolver solver;
+
+	/**
+	 * The population pool.
+	 */
+	private PopulationPool populationPool;
+
+	/**
+	 * Create a genetic search generation benchmark.
+	 */
+	public GeneticSearchGenerationBenchmark() {
+		super("geneticSearchGeneration");
+	}
+
+	@Override
+	public void setUp(int nbQueens, Randomizer randomizer) {
+		this.solver = new GeneticSearchQueenPuzzleAlgorithmSolver(0, CROSSOVER_ACCEPTANCE_PROBABILITY, POPULATION_SIZE, NB_BEST_STATES, randomizer);
+		this.populationPool = this.solver.generateInitialPopulation(POPULATION_SIZE, nbQueens);
+	}
+
+	@Override
+	public int run() {
+		this.solver.nextGeneration(this.populationPool);
+		return this.populationPool.getCurrentPopulation().size();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package fr.polytech.queenspuzzle.algorithms.simulatedannealingsearch;
+
+import fr.polytech.queenspuzzle.algorithms.DiagonalConflictBoard;
+import fr.polytech.queenspuzzle.benchmarks.MicroBenchmark;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+
+/**
+ * This class represents the benchmark of one move of {@link SimulatedAnnealingSearchQueenPuzzleAlgorithmSolver} (evaluated, then applied if accepted) at a fixed temperature.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class SimulatedAnnealingSearchMoveBenchmark extends MicroBenchmark {
+
+	/**
+	 * The temperature.
+	 */
+	public static final double TEMPERATURE = 1;
+
+	/**
+	 * The solver.
+	 */
+	private SimulatedAnnealingSearchQueenPuzzleAlgorithmSolver solver;
+
+	/**
+	 * The board of the state.
+	 */
+	private DiagonalConflictBoard board;
+
+	/**
+	 * The acceptance table.
+	 */
+	private AcceptanceTable acceptanceTable;
+
+	/**
+	 * Create a simulated annealing search move benchmark.
+	 */
+	public SimulatedAnnealingSearchMoveBenchmark() {
+		super("simulatedAnnealingSearchMove");
+	}
+
+	@Override
+	public void setUp(int nbQueens, Randomizer randomizer) {
+		this.solver = new SimulatedAnnealingSearchQueenPuzzleAlgorithmSolver(0.5, 0.001, 6, 0.95, randomizer.split());
+		this.board = new DiagonalConflictBoard(randomState(nbQueens, randomizer));
+		this.acceptanceTable = new AcceptanceTable();
+		this.acceptanceTable.setTemperature(TEMPERATURE);
+	}
+
+	@Override
+	public int run() {
+		this.solver.randomMove(this.board, this.acceptanceTable);
+		return this.board.getFitness();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package fr.polytech.queenspuzzle.algorithms.tabusearch;
+
+import fr.polytech.queenspuzzle.algorithms.DiagonalConflictBoard;
+import fr.polytech.queenspuzzle.benchmarks.MicroBenchmark;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+
+/**
+ * This class represents the benchmark of one neighborhood sweep of {@link TabuSearchQueenPuzzleAlgorithmSolver}.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class TabuSearchBestNeighborBenchmark extends MicroBenchmark {
+
+	/**
+	 * The size of the tabu list.
+	 */
+	public static final int TABU_LIST_SIZE = 15;
+
+	/**
+	 * The solver.
+	 */
+	private final TabuSearchQueenPuzzleAlgorithmSolver solver;
+
+	/**
+	 * The best neighbor.
+	 */
+	private final BestNeighbor bestNeighbor;
+
+	/**
+	 * The board.
+	 */
+	private DiagonalConflictBoard board;
+
+	/**
+	 * The tabu list (filled with random transformations).
+	 */
+	private TabuList tabuList;
+
+	/**
+	 * Create a tabu search best neighbor benchmark.
+	 */
+	public TabuSearchBestNeighborBenchmark() {
+		super("tabuSearchBestNeighbor");
+		this.solver = new TabuSearchQueenPuzzleAlgorithmSolver(TABU_LIST_SIZE, 0);
+		this.bestNeighbor = new BestNeighbor();
+	}
+
+	@Override
+	public void setUp(int nbQueens, Randomizer randomizer) {
+		this.board = new DiagonalConflictBoard(randomState(nbQueens, randomizer));
+		this.tabuList = new TabuList(nbQueens, TABU_LIST_SIZE);
+		for (int index = 0; index < TABU_LIST_SIZE; index++) {
+			this.tabuList.addInvalidTransformation(randomizer.nextInt(nbQueens), randomizer.nextInt(nbQueens));
+		}
+	}
+
+	@Override
+	public int run() {
+		return DiagonalConflictBoard.saturate(this.solver.getBestNeighbor(this.board, this.tabuList, this.bestNeighbor).getFitness());
+	}
+}
\ No newline at end of file
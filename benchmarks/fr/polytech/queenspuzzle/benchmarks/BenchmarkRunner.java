@@ -0,0 +1,216 @@
+package fr.polytech.queenspuzzle.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import fr.polytech.queenspuzzle.algorithms.geneticsearch.GeneticSearchGenerationBenchmark;
+import fr.polytech.queenspuzzle.algorithms.simulatedannealingsearch.SimulatedAnnealingSearchMoveBenchmark;
+import fr.polytech.queenspuzzle.algorithms.tabusearch.TabuSearchBestNeighborBenchmark;
+import fr.polytech.queenspuzzle.randomizers.SplittableRandomizer;
+
+/**
+ * This class represents the launcher of the micro-benchmarks.
+ *
+ * Each benchmark is run for every number of queens with a fixed seed, in its own child JVM (like the forks of JMH): the hot paths are polymorphic (fitness functions, boards), so a benchmark run after another one would be measured with the JIT profile of the previous one. In the child JVM, the benchmark is warmed up, then measured from a single thread during several iterations, and the runner reports the mean time per operation with its standard deviation, its minimum and its maximum over the iterations, and the allocated bytes per operation. The allocated bytes are the sum of the allocation counters of all live threads, as some benchmarks run on parallel streams: the threads which end during the measurement aren't counted, while the few allocations of the service threads of the JVM are. The arguments, if any, filter the benchmarks by name.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * The numbers of queens.
+	 */
+	public static final int[] NB_QUEENS = { 8, 100, 1000, 10000 };
+
+	/**
+	 * The seed.
+	 */
+	public static final long SEED = 42L;
+
+	/**
+	 * The number of warmup iterations.
+	 */
+	public static final int NB_WARMUP_ITERATIONS = 5;
+
+	/**
+	 * The number of measurement iterations.
+	 */
+	public static final int NB_MEASUREMENT_ITERATIONS = 10;
+
+	/**
+	 * The duration of an iteration (in nanoseconds).
+	 */
+	public static final long ITERATION_DURATION = TimeUnit.SECONDS.toNanos(1);
+
+	/**
+	 * The argument which runs a single benchmark for a single number of queens in the current JVM (followed by the name of the benchmark and the number of queens).
+	 */
+	public static final String FORK_ARGUMENT = "--fork";
+
+	/**
+	 * The sink of the values computed by the benchmarks.
+	 */
+	private static volatile int sink;
+
+	/**
+	 * The entry of the benchmarks.
+	 * 
+	 * @param args
+	 *            The names of the benchmarks to run (all if empty), or the fork argument followed by the name of a benchmark and a number of queens.
+	 */
+	public static void main(String[] args) {
+		final List<MicroBenchmark> benchmarks = Arrays.asList( //
+		        new FitnessBenchmark(), //
+		        new GeneticSearchFitnessBenchmark(), //
+		        new TabuSearchBestNeighborBenchmark(), //
+		        new TabuListBenchmark(), //
+		        new SimulatedAnnealingSearchMoveBenchmark(), //
+		        new GeneticSearchGenerationBenchmark());
+
+		if (args.length == 3 && FORK_ARGUMENT.equals(args[0])) {
+			for (MicroBenchmark benchmark : benchmarks) {
+				if (benchmark.getName().equals(args[1])) {
+					run(benchmark, Integer.parseInt(args[2]));
+					return;
+				}
+			}
+
+			throw new IllegalArgumentException("The benchmark " + args[1] + " is unknown.");
+		}
+
+		System.out.println(String.format("%-40s %8s %18s %14s %18s %18s %16s %14s", "Benchmark", "n", "time (ns/op)", "stdev (ns/op)", "min (ns/op)", "max (ns/op)", "alloc (B/op)", "alloc (MB/s)"));
+		for (MicroBenchmark benchmark : benchmarks) {
+			if (args.length > 0 && !Arrays.asList(args).contains(benchmark.getName())) {
+				continue;
+			}
+
+			for (int nbQueens : NB_QUEENS) {
+				fork(benchmark, nbQueens);
+			}
+		}
+	}
+
+	/**
+	 * Run a benchmark for a number of queens in a child JVM, with the class path and the arguments of the current JVM, which writes its results on the standard output.
+	 * 
+	 * @param benchmark
+	 *            The benchmark.
+	 * @param nbQueens
+	 *            The number of queens.
+	 */
+	private static void fork(MicroBenchmark benchmark, int nbQueens) {
+		final List<String> command = new ArrayList<String>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(BenchmarkRunner.class.getName());
+		command.add(FORK_ARGUMENT);
+		command.add(benchmark.getName());
+		command.add(Integer.toString(nbQueens));
+
+		try {
+			final int exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+			if (exitCode != 0) {
+				throw new IllegalStateException("The benchmark " + benchmark.getName() + " has failed for " + nbQueens + " queens (exit code " + exitCode + ").");
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("The benchmark " + benchmark.getName() + " can't be forked.", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("The benchmarks have been interrupted.", e);
+		}
+	}
+
+	/**
+	 * Run a benchmark for a number of queens in the current JVM, and write its results.
+	 * 
+	 * @param benchmark
+	 *            The benchmark.
+	 * @param nbQueens
+	 *            The number of queens.
+	 */
+	private static void run(MicroBenchmark benchmark, int nbQueens) {
+		final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+		benchmark.setUp(nbQueens, new SplittableRandomizer(SEED));
+
+		for (int iteration = 0; iteration < NB_WARMUP_ITERATIONS; iteration++) {
+			measure(benchmark);
+		}
+
+		final double[] times = new double[NB_MEASUREMENT_ITERATIONS];
+		long nbOperations = 0;
+		long elapsedTime = 0;
+		final long startAllocatedBytes = getAllocatedBytes(threadMXBean);
+		long[] measure;
+		for (int iteration = 0; iteration < NB_MEASUREMENT_ITERATIONS; iteration++) {
+			measure = measure(benchmark);
+			nbOperations += measure[0];
+			elapsedTime += measure[1];
+			times[iteration] = (double) measure[1] / measure[0];
+		}
+		final long allocatedBytes = getAllocatedBytes(threadMXBean) - startAllocatedBytes;
+
+		double mean = 0;
+		double min = Double.MAX_VALUE;
+		double max = 0;
+		for (double time : times) {
+			mean += time / times.length;
+			min = Math.min(min, time);
+			max = Math.max(max, time);
+		}
+
+		double variance = 0;
+		for (double time : times) {
+			variance += (time - mean) * (time - mean) / Math.max(times.length - 1, 1);
+		}
+
+		System.out.println(String.format("%-40s %8d %18.1f %14.1f %18.1f %18.1f %16.1f %14.1f", benchmark.getName(), nbQueens, mean, Math.sqrt(variance), min, max, (double) allocatedBytes / nbOperations, allocatedBytes / (elapsedTime / 1e9) / (1024 * 1024)));
+	}
+
+	/**
+	 * Get the number of bytes allocated by all live threads.
+	 * 
+	 * @param threadMXBean
+	 *            The thread management bean.
+	 * @return The number of allocated bytes.
+	 */
+	private static long getAllocatedBytes(com.sun.management.ThreadMXBean threadMXBean) {
+		long allocatedBytes = 0;
+		for (long threadAllocatedBytes : threadMXBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds())) {
+			// The threads which have ended since their identifiers were read are reported as -1
+			if (threadAllocatedBytes > 0) {
+				allocatedBytes += threadAllocatedBytes;
+			}
+		}
+
+		return allocatedBytes;
+	}
+
+	/**
+	 * Run a benchmark during an iteration.
+	 * 
+	 * @param benchmark
+	 *            The benchmark.
+	 * @return The number of operations and the elapsed time (in nanoseconds).
+	 */
+	private static long[] measure(MicroBenchmark benchmark) {
+		long nbOperations = 0;
+		final long startTime = System.nanoTime();
+		long elapsedTime;
+		do {
+			sink += benchmark.run();
+			nbOperations++;
+			elapsedTime = System.nanoTime() - startTime;
+		} while (elapsedTime < ITERATION_DURATION);
+
+		return new long[] { nbOperations, elapsedTime };
+	}
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package fr.polytech.queenspuzzle.benchmarks;
+
+import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.algorithms.tabusearch.TabuSearchQueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+
+/**
+ * This class represents the benchmark of {@link QueenPuzzleAlgorithmSolver#fitness(int[])}.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class FitnessBenchmark extends MicroBenchmark {
+
+	/**
+	 * The solver (which doesn't override the fitness).
+	 */
+	private final QueenPuzzleAlgorithmSolver solver;
+
+	/**
+	 * The state.
+	 */
+	private int[] state;
+
+	/**
+	 * Create a fitness benchmark.
+	 */
+	public FitnessBenchmark() {
+		super("fitness");
+		this.solver = new TabuSearchQueenPuzzleAlgorithmSolver(0, 0);
+	}
+
+	@Override
+	public void setUp(int nbQueens, Randomizer randomizer) {
+		this.state = randomState(nbQueens, randomizer);
+	}
+
+	@Override
+	public int run() {
+		return this.solver.fitness(this.state);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package fr.polytech.queenspuzzle.benchmarks;
+
+import fr.polytech.queenspuzzle.algorithms.geneticsearch.GeneticSearchQueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+
+/**
+ * This class represents the benchmark of the row-aware {@link GeneticSearchQueenPuzzleAlgorithmSolver#fitness(int[])}.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class GeneticSearchFitnessBenchmark extends MicroBenchmark {
+
+	/**
+	 * The solver.
+	 */
+	private final GeneticSearchQueenPuzzleAlgorithmSolver solver;
+
+	/**
+	 * The state (a random row for each column).
+	 */
+	private int[] state;
+
+	/**
+	 * Create a genetic search fitness benchmark.
+	 */
+	public GeneticSearchFitnessBenchmark() {
+		super("geneticSearchFitness");
+		this.solver = new GeneticSearchQueenPuzzleAlgorithmSolver(0, 0, 0, 0);
+	}
+
+	@Override
+	public void setUp(int nbQueens, Randomizer randomizer) {
+		this.state = new int[nbQueens];
+		for (int offset = 0; offset < nbQueens; offset++) {
+			this.state[offset] = randomizer.nextInt(nbQueens);
+		}
+	}
+
+	@Override
+	public int run() {
+		return this.solver.fitness(this.state);
+	}
+}
\ No newline at end of file
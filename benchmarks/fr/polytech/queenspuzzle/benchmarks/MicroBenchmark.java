@@ -0,0 +1,81 @@
+package fr.polytech.queenspuzzle.benchmarks;
+
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+
+/**
+ * This class represents a micro-benchmark of a solver hot path, run by the {@link BenchmarkRunner}.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public abstract class MicroBenchmark {
+
+	/**
+	 * The name of the benchmark.
+	 */
+	private final String name;
+
+	/**
+	 * Create a micro-benchmark.
+	 * 
+	 * @param name
+	 *            The name of the benchmark.
+	 */
+	public MicroBenchmark(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Get the name of the benchmark.
+	 * 
+	 * @return The name of the benchmark.
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Prepare the benchmark (not measured).
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param randomizer
+	 *            The seeded randomizer.
+	 */
+	public abstract void setUp(int nbQueens, Randomizer randomizer);
+
+	/**
+	 * Run one operation of the benchmark (measured).
+	 * 
+	 * @return A value computed by the operation, consumed by the runner to avoid dead code elimination.
+	 */
+	public abstract int run();
+
+	/**
+	 * Generate a random permutation state (uniform shuffle).
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param randomizer
+	 *            The randomizer.
+	 * @return The generated state.
+	 */
+	public static int[] randomState(int nbQueens, Randomizer randomizer) {
+		final int[] state = new int[nbQueens];
+		for (int offset = 0; offset < nbQueens; offset++) {
+			state[offset] = offset;
+		}
+
+		int y;
+		int temp;
+		for (int x = nbQueens - 1; x > 0; x--) {
+			y = randomizer.nextInt(x + 1);
+
+			temp = state[x];
+			state[x] = state[y];
+			state[y] = temp;
+		}
+
+		return state;
+	}
+}
\ No newline at end of file
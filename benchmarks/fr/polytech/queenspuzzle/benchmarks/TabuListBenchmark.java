@@ -0,0 +1,84 @@
+package fr.polytech.queenspuzzle.benchmarks;
+
+import fr.polytech.queenspuzzle.algorithms.tabusearch.TabuList;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+
+/**
+ * This class represents the benchmark of the {@link TabuList}: an operation adds a transformation and checks {@value #NB_CHECKS_PER_OPERATION} ones.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class TabuListBenchmark extends MicroBenchmark {
+
+	/**
+	 * The size of the tabu list.
+	 */
+	public static final int TABU_LIST_SIZE = 15;
+
+	/**
+	 * The number of checked transformations per operation.
+	 */
+	public static final int NB_CHECKS_PER_OPERATION = 16;
+
+	/**
+	 * The number of pregenerated positions (a power of two).
+	 */
+	public static final int NB_POSITIONS = 1024;
+
+	/**
+	 * The pregenerated positions.
+	 */
+	private final int[] positions;
+
+	/**
+	 * The offset of the next position.
+	 */
+	private int offset;
+
+	/**
+	 * The tabu list.
+	 */
+	private TabuList tabuList;
+
+	/**
+	 * Create a tabu list benchmark.
+	 */
+	public TabuListBenchmark() {
+		super("tabuList");
+		this.positions = new int[NB_POSITIONS];
+	}
+
+	@Override
+	public void setUp(int nbQueens, Randomizer randomizer) {
+		this.tabuList = new TabuList(nbQueens, TABU_LIST_SIZE);
+		for (int index = 0; index < NB_POSITIONS; index++) {
+			this.positions[index] = randomizer.nextInt(nbQueens);
+		}
+		this.offset = 0;
+	}
+
+	@Override
+	public int run() {
+		this.tabuList.addInvalidTransformation(nextPosition(), nextPosition());
+
+		int nbValidTransformations = 0;
+		for (int check = 0; check < NB_CHECKS_PER_OPERATION; check++) {
+			if (this.tabuList.isValidTransformation(nextPosition(), nextPosition())) {
+				nbValidTransformations++;
+			}
+		}
+
+		return nbValidTransformations;
+	}
+
+	/**
+	 * Get the next pregenerated position.
+	 * 
+	 * @return The next position.
+	 */
+	private int nextPosition() {
+		this.offset = (this.offset + 1) & (NB_POSITIONS - 1);
+		return this.positions[this.offset];
+	}
+}
\ No newline at end of file
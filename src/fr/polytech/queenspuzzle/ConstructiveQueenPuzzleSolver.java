@@ -0,0 +1,172 @@
+package fr.polytech.queenspuzzle;
+
+import java.util.function.IntConsumer;
+
+import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
+
+/**
+ * This class represents a constructive queen puzzle solver, which builds a solution in O(n) for any number of queens except 2 and 3.
+ *
+ * The lines (from 1) of the columns are the even lines then the odd ones, fixed according to the number of queens modulo 6: if it's 2, the lines 1 and 3 are switched and the line 5 is moved to the end; if it's 3, the line 2 is moved to the end of the even lines and the lines 1 and 3 to the end of the odd ones.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class ConstructiveQueenPuzzleSolver implements QueenPuzzleSolver {
+
+	/**
+	 * The number of queens.
+	 */
+	private final int nbQueens;
+
+	/**
+	 * Create a constructive queen puzzle solver.
+	 *
+	 * @param nbQueens
+	 *            The number of queens (neither 2 nor 3).
+	 */
+	public ConstructiveQueenPuzzleSolver(int nbQueens) {
+		checkNbQueens(nbQueens);
+		this.nbQueens = nbQueens;
+	}
+
+	@Override
+	public AdvancedSolution solve() {
+		final int[] state = new int[this.nbQueens];
+		construct(state);
+
+		if (!isValid(state)) {
+			throw new IllegalStateException("The constructed state of " + this.nbQueens + " queens is not a solution.");
+		}
+
+		return new AdvancedSolution(state, 0, 1);
+	}
+
+	/**
+	 * Construct a solution into a preallocated state (offset = column ; value = line).
+	 *
+	 * @param state
+	 *            The state to fill, whose length is the number of queens (neither 2 nor 3).
+	 */
+	public static void construct(int[] state) {
+		construct(state.length, new IntConsumer() {
+
+			/**
+			 * The current column.
+			 */
+			private int column = 0;
+
+			@Override
+			public void accept(int line) {
+				state[this.column++] = line;
+			}
+		});
+	}
+
+	/**
+	 * Construct a solution and stream out the line (from 0) of each column, in the order of the columns.
+	 *
+	 * @param nbQueens
+	 *            The number of queens (neither 2 nor 3).
+	 * @param lines
+	 *            The consumer of the lines.
+	 */
+	public static void construct(int nbQueens, IntConsumer lines) {
+		checkNbQueens(nbQueens);
+
+		final int remainder = nbQueens % 6;
+
+		// Even lines
+		if (remainder == 3) {
+			emitLines(4, nbQueens, lines);
+			lines.accept(2 - 1);
+		} else {
+			emitLines(2, nbQueens, lines);
+		}
+
+		// Odd lines
+		if (remainder == 2) {
+			lines.accept(3 - 1);
+			lines.accept(1 - 1);
+			emitLines(7, nbQueens, lines);
+			lines.accept(5 - 1);
+		} else if (remainder == 3) {
+			emitLines(5, nbQueens, lines);
+			lines.accept(1 - 1);
+			lines.accept(3 - 1);
+		} else {
+			emitLines(1, nbQueens, lines);
+		}
+	}
+
+	/**
+	 * Check in O(n) that a state is a solution: all lines and diagonals are occupied by one queen at most.
+	 *
+	 * @param state
+	 *            The state.
+	 * @return True if the state is a solution, else False.
+	 */
+	public static boolean isValid(int[] state) {
+		final int nbQueens = state.length;
+		final long[] lines = new long[(nbQueens >> 6) + 1];
+		final long[] upDiagonals = new long[(nbQueens >> 5) + 1];
+		final long[] downDiagonals = new long[(nbQueens >> 5) + 1];
+
+		int line;
+		for (int column = 0; column < nbQueens; column++) {
+			line = state[column];
+			if (line < 0 || line >= nbQueens || !occupy(lines, line) || !occupy(upDiagonals, column + line) || !occupy(downDiagonals, column - line + nbQueens - 1)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Emit the lines (from 0) of the lines (from 1) first, first + 2, ... up to the number of queens.
+	 *
+	 * @param first
+	 *            The first line (from 1).
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param lines
+	 *            The consumer of the lines.
+	 */
+	private static void emitLines(int first, int nbQueens, IntConsumer lines) {
+		for (long line = first; line <= nbQueens; line += 2) {
+			lines.accept((int) line - 1);
+		}
+	}
+
+	/**
+	 * Mark a bit as occupied.
+	 *
+	 * @param bits
+	 *            The bits.
+	 * @param offset
+	 *            The offset of the bit.
+	 * @return True if the bit was free, else False.
+	 */
+	private static boolean occupy(long[] bits, int offset) {
+		final long mask = 1L << offset;
+		if ((bits[offset >>> 6] & mask) != 0) {
+			return false;
+		}
+
+		bits[offset >>> 6] |= mask;
+		return true;
+	}
+
+	/**
+	 * Check that a solution can be constructed for a number of queens.
+	 *
+	 * @param nbQueens
+	 *            The number of queens.
+	 */
+	private static void checkNbQueens(int nbQueens) {
+		if (nbQueens < 0 || nbQueens == 2 || nbQueens == 3) {
+			throw new IllegalArgumentException("No solution exists for " + nbQueens + " queens.");
+		}
+	}
+}
\ No newline at end of file
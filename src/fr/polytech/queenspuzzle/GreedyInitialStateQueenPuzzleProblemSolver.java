@@ -0,0 +1,113 @@
+package fr.polytech.queenspuzzle;
+
+import java.util.BitSet;
+
+import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+
+/**
+ * This class represents a greedy initial state queen puzzle problem solver.
+ *
+ * The queens are placed column by column on a free line whose diagonals are free too, found among a few random free lines (or among all of them when only a few are left); if there's none, the queen is placed on a random free line. The diagonals are tracked with bitsets, so the initial state is a permutation built in O(n) which only has a few conflicts, even on large boards.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class GreedyInitialStateQueenPuzzleProblemSolver extends QueenPuzzleProblemSolver {
+
+	/**
+	 * The number of free lines tried for each column before placing the queen on a random one.
+	 */
+	public static final int NB_TRIALS = 32;
+
+	/**
+	 * Create a greedy initial state queen puzzle problem solver.
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param queenPuzzleAlgorithmSolver
+	 *            The queen puzzle algorithm solver.
+	 */
+	public GreedyInitialStateQueenPuzzleProblemSolver(int nbQueens, QueenPuzzleAlgorithmSolver queenPuzzleAlgorithmSolver) {
+		super(nbQueens, queenPuzzleAlgorithmSolver);
+	}
+
+	/**
+	 * Create a greedy initial state queen puzzle problem solver.
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param queenPuzzleAlgorithmSolver
+	 *            The queen puzzle algorithm solver.
+	 * @param randomizer
+	 *            The randomizer used to initialize the initial state.
+	 */
+	public GreedyInitialStateQueenPuzzleProblemSolver(int nbQueens, QueenPuzzleAlgorithmSolver queenPuzzleAlgorithmSolver, Randomizer randomizer) {
+		super(nbQueens, queenPuzzleAlgorithmSolver, randomizer);
+	}
+
+	@Override
+	protected void initializeInitialState() {
+		// The free lines are kept at the beginning of the array, a used line is replaced by the last free one
+		final int[] freeLines = new int[this.nbQueens];
+		for (int offset = 0; offset < this.nbQueens; offset++) {
+			freeLines[offset] = offset;
+		}
+
+		final BitSet upDiagonals = new BitSet(2 * this.nbQueens - 1);
+		final BitSet downDiagonals = new BitSet(2 * this.nbQueens - 1);
+
+		int nbFreeLines = this.nbQueens;
+		int offset;
+		int line;
+		for (int column = 0; column < this.nbQueens; column++) {
+			offset = findFreeLine(freeLines, nbFreeLines, column, upDiagonals, downDiagonals);
+			if (offset < 0) {
+				offset = this.randomizer.nextInt(nbFreeLines);
+			}
+
+			line = freeLines[offset];
+			this.initialState[column] = line;
+			upDiagonals.set(column + line);
+			downDiagonals.set(column - line + this.nbQueens - 1);
+
+			nbFreeLines--;
+			freeLines[offset] = freeLines[nbFreeLines];
+		}
+	}
+
+	/**
+	 * Find a free line whose diagonals are free for the queen of a column.
+	 * 
+	 * @param freeLines
+	 *            The free lines.
+	 * @param nbFreeLines
+	 *            The number of free lines.
+	 * @param column
+	 *            The column.
+	 * @param upDiagonals
+	 *            The used up diagonals (offset = column + line).
+	 * @param downDiagonals
+	 *            The used down diagonals (offset = column - line + number of queens - 1).
+	 * @return The offset of the line into the free lines, or -1 if none has been found.
+	 */
+	private int findFreeLine(int[] freeLines, int nbFreeLines, int column, BitSet upDiagonals, BitSet downDiagonals) {
+		final boolean exhaustive = nbFreeLines <= NB_TRIALS;
+		final int nbTrials = exhaustive ? nbFreeLines : NB_TRIALS;
+		final int firstOffset = this.randomizer.nextInt(nbFreeLines);
+
+		int offset;
+		int line;
+		for (int trial = 0; trial < nbTrials; trial++) {
+			// Try all the lines from a random one if only a few are left, else random ones
+			offset = exhaustive ? (firstOffset + trial) % nbFreeLines : trial == 0 ? firstOffset : this.randomizer.nextInt(nbFreeLines);
+			line = freeLines[offset];
+
+			if (!upDiagonals.get(column + line) && !downDiagonals.get(column - line + this.nbQueens - 1)) {
+				return offset;
+			}
+		}
+
+		return -1;
+	}
+}
\ No newline at end of file
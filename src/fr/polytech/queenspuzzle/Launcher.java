@@ -1,13 +1,22 @@
 package fr.polytech.queenspuzzle;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
 import fr.polytech.queenspuzzle.algorithms.geneticsearch.GeneticSearchQueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.algorithms.geneticsearch.IslandGeneticSearchQueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.algorithms.geneticsearch.PermutationGeneticSearchQueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.algorithms.minconflictssearch.MinConflictsSearchQueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.algorithms.simulatedannealingsearch.ParallelTemperingQueenPuzzleAlgorithmSolver;
 import fr.polytech.queenspuzzle.algorithms.simulatedannealingsearch.SimulatedAnnealingSearchQueenPuzzleAlgorithmSolver;
 import fr.polytech.queenspuzzle.algorithms.simulatedannealingsearch.SimulatedAnnealingSearchQueenPuzzleAlgorithmSolverBis;
 import fr.polytech.queenspuzzle.algorithms.tabusearch.TabuSearchQueenPuzzleAlgorithmSolver;
 import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
+import fr.polytech.queenspuzzle.solutions.PortfolioSolution;
 
 /**
  * This class represents the launcher of the application.
@@ -29,7 +38,13 @@ public class Launcher {
 		final AdvancedSolution result = solveUsingTabuSearch();
 		// final AdvancedSolution result = solveUsingSimulatedAnnealingSearch();
 		// final AdvancedSolution result = solveUsingSimulatedAnnealingSearchBis();
+		// final AdvancedSolution result = solveUsingParallelTempering();
 		// final AdvancedSolution result = solveUsingGeneticSearch();
+		// final AdvancedSolution result = solveUsingPermutationGeneticSearch();
+		// final AdvancedSolution result = solveUsingIslandGeneticSearch();
+		// final AdvancedSolution result = solveUsingPortfolio();
+		// final AdvancedSolution result = solveUsingMinConflictsSearch();
+		// final AdvancedSolution result = solveUsingConstruction();
 		System.out.println("Solution: " + Arrays.toString(result.getState()));
 		System.out.println("Fitness: " + result.getFitness());
 		System.out.println("Nb iterations: " + result.getNbIterations());
@@ -101,6 +116,30 @@ public class Launcher {
 		return solver.solve();
 	}
 
+	/**
+	 * Solve the queen problem using a parallel tempering algorithm.
+	 * 
+	 * @return The solution.
+	 */
+	private static final AdvancedSolution solveUsingParallelTempering() {
+		final int nbQueens = 1000;
+		final double minTemperature = 0.2;
+		final double maxTemperature = 5;
+		final int nbReplicas = 8;
+		final int nbMovesPerSweep = 10000;
+		final int nbMaxSweeps = 100000;
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(nbReplicas);
+		try {
+			final QueenPuzzleAlgorithmSolver algorithm = new ParallelTemperingQueenPuzzleAlgorithmSolver(minTemperature, maxTemperature, nbReplicas, nbMovesPerSweep, nbMaxSweeps, executorService);
+			final QueenPuzzleSolver solver = new RandomDiagonalInitialStateQueenPuzzleProblemSolver(nbQueens, algorithm);
+
+			return solver.solve();
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
 	/**
 	 * Solve the queen problem using a genetic search algorithm.
 	 * 
@@ -118,4 +157,105 @@ public class Launcher {
 
 		return solver.solve();
 	}
+
+	/**
+	 * Solve the queen problem using a genetic search algorithm on permutations.
+	 * 
+	 * @return The solution.
+	 */
+	private static final AdvancedSolution solveUsingPermutationGeneticSearch() {
+		final int nbQueens = 100;
+		final int nbGenerations = 1000;
+		final double crossoverAcceptanceProbability = 0.800;
+		final int populationSize = 100;
+		final int nbBest = 35;
+
+		final QueenPuzzleAlgorithmSolver algorithm = new PermutationGeneticSearchQueenPuzzleAlgorithmSolver(nbGenerations, crossoverAcceptanceProbability, populationSize, nbBest);
+		final QueenPuzzleSolver solver = new RandomDiagonalInitialStateQueenPuzzleProblemSolver(nbQueens, algorithm);
+
+		return solver.solve();
+	}
+
+	/**
+	 * Solve the queen problem using an island model genetic search algorithm.
+	 * 
+	 * @return The solution.
+	 */
+	private static final AdvancedSolution solveUsingIslandGeneticSearch() {
+		final int nbQueens = 500;
+		final int nbGenerations = 20000;
+		final double crossoverAcceptanceProbability = 0.800;
+		final int populationSize = 100;
+		final int nbBest = 35;
+		final int nbIslands = Runtime.getRuntime().availableProcessors();
+		final int migrationInterval = 10;
+		final int nbMigrants = 3;
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(nbIslands);
+		try {
+			final GeneticSearchQueenPuzzleAlgorithmSolver island = new PermutationGeneticSearchQueenPuzzleAlgorithmSolver(nbGenerations, crossoverAcceptanceProbability, populationSize, nbBest);
+			final QueenPuzzleAlgorithmSolver algorithm = new IslandGeneticSearchQueenPuzzleAlgorithmSolver(island, nbIslands, migrationInterval, nbMigrants, executorService);
+			final QueenPuzzleSolver solver = new RandomDiagonalInitialStateQueenPuzzleProblemSolver(nbQueens, algorithm);
+
+			return solver.solve();
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	/**
+	 * Solve the queen problem using a portfolio of algorithms.
+	 * 
+	 * @return The solution.
+	 */
+	private static final AdvancedSolution solveUsingPortfolio() {
+		final int nbQueens = 300;
+		final long timeBudget = 60;
+
+		final List<QueenPuzzleAlgorithmSolver> algorithms = Arrays.asList( //
+		        new TabuSearchQueenPuzzleAlgorithmSolver(15, 200), //
+		        new SimulatedAnnealingSearchQueenPuzzleAlgorithmSolver(0.5, 0.001, 6, 0.95), //
+		        new SimulatedAnnealingSearchQueenPuzzleAlgorithmSolverBis(7, 0.000001, 0.9997), //
+		        new GeneticSearchQueenPuzzleAlgorithmSolver(1000, 0.800, 100, 35));
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(algorithms.size());
+		try {
+			final PortfolioSolution result = new PortfolioQueenPuzzleSolver(nbQueens, algorithms, executorService, timeBudget, TimeUnit.SECONDS).solve();
+			System.out.println("Winner: " + result.getWinnerName());
+
+			return result;
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	/**
+	 * Solve the queen problem using a min-conflicts search algorithm.
+	 * 
+	 * @return The solution.
+	 */
+	private static final AdvancedSolution solveUsingMinConflictsSearch() {
+		final int nbQueens = 1000;
+		final int nbMaxIterations = 10000000;
+		final int nbSamples = 32;
+		final double noiseProbability = 0.05;
+
+		final QueenPuzzleAlgorithmSolver algorithm = new MinConflictsSearchQueenPuzzleAlgorithmSolver(nbMaxIterations, nbSamples, noiseProbability);
+		final QueenPuzzleSolver solver = new RandomDiagonalInitialStateQueenPuzzleProblemSolver(nbQueens, algorithm);
+
+		return solver.solve();
+	}
+
+	/**
+	 * Solve the queen problem using an explicit construction.
+	 * 
+	 * @return The solution.
+	 */
+	private static final AdvancedSolution solveUsingConstruction() {
+		final int nbQueens = 1000;
+
+		final QueenPuzzleSolver solver = new ConstructiveQueenPuzzleSolver(nbQueens);
+
+		return solver.solve();
+	}
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+package fr.polytech.queenspuzzle;
+
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import fr.polytech.queenspuzzle.algorithms.CancellationToken;
+import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+import fr.polytech.queenspuzzle.randomizers.SplittableRandomizer;
+import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
+import fr.polytech.queenspuzzle.solutions.PortfolioSolution;
+
+/**
+ * This class represents a portfolio queen puzzle solver, which races several algorithms (each one from its own random diagonal initial state) at the same time.
+ *
+ * The first solution without conflicts is returned and the other runs are cancelled cooperatively. If no run finds one before the time budget expires, all runs are cancelled and the best solution they met is returned.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class PortfolioQueenPuzzleSolver implements QueenPuzzleSolver {
+
+	/**
+	 * The number of queens.
+	 */
+	private final int nbQueens;
+
+	/**
+	 * The queen puzzle algorithm solvers (one run per solver).
+	 */
+	private final List<QueenPuzzleAlgorithmSolver> queenPuzzleAlgorithmSolvers;
+
+	/**
+	 * The executor service which runs the algorithms.
+	 */
+	private final ExecutorService executorService;
+
+	/**
+	 * The time budget (in nanoseconds).
+	 */
+	private final long timeBudget;
+
+	/**
+	 * The randomizer used to initialize the initial states.
+	 */
+	private final Randomizer randomizer;
+
+	/**
+	 * Create a portfolio queen puzzle solver.
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param queenPuzzleAlgorithmSolvers
+	 *            The queen puzzle algorithm solvers (one run per solver).
+	 * @param executorService
+	 *            The executor service which runs the algorithms (it should be able to run all of them at the same time).
+	 * @param timeBudget
+	 *            The time budget.
+	 * @param timeUnit
+	 *            The unit of the time budget.
+	 */
+	public PortfolioQueenPuzzleSolver(int nbQueens, List<QueenPuzzleAlgorithmSolver> queenPuzzleAlgorithmSolvers, ExecutorService executorService, long timeBudget, TimeUnit timeUnit) {
+		this(nbQueens, queenPuzzleAlgorithmSolvers, executorService, timeBudget, timeUnit, new SplittableRandomizer());
+	}
+
+	/**
+	 * Create a portfolio queen puzzle solver.
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param queenPuzzleAlgorithmSolvers
+	 *            The queen puzzle algorithm solvers (one run per solver).
+	 * @param executorService
+	 *            The executor service which runs the algorithms (it should be able to run all of them at the same time).
+	 * @param timeBudget
+	 *            The time budget.
+	 * @param timeUnit
+	 *            The unit of the time budget.
+	 * @param randomizer
+	 *            The randomizer used to initialize the initial states.
+	 */
+	public PortfolioQueenPuzzleSolver(int nbQueens, List<QueenPuzzleAlgorithmSolver> queenPuzzleAlgorithmSolvers, ExecutorService executorService, long timeBudget, TimeUnit timeUnit, Randomizer randomizer) {
+		this.nbQueens = nbQueens;
+		this.queenPuzzleAlgorithmSolvers = queenPuzzleAlgorithmSolvers;
+		this.executorService = executorService;
+		this.timeBudget = timeUnit.toNanos(timeBudget);
+		this.randomizer = randomizer;
+	}
+
+	@Override
+	public PortfolioSolution solve() {
+		final long deadline = System.nanoTime() + this.timeBudget;
+		final CancellationToken cancellationToken = new CancellationToken();
+		final CompletionService<PortfolioSolution> completionService = new ExecutorCompletionService<PortfolioSolution>(this.executorService);
+
+		final int nbRuns = this.queenPuzzleAlgorithmSolvers.size();
+		for (int offset = 0; offset < nbRuns; offset++) {
+			final int runOffset = offset;
+			final QueenPuzzleAlgorithmSolver queenPuzzleAlgorithmSolver = this.queenPuzzleAlgorithmSolvers.get(offset);
+			final QueenPuzzleProblemSolver queenPuzzleProblemSolver = new RandomDiagonalInitialStateQueenPuzzleProblemSolver(this.nbQueens, queenPuzzleAlgorithmSolver, this.randomizer.split());
+
+			completionService.submit(() -> {
+				final AdvancedSolution solution = queenPuzzleProblemSolver.solve(cancellationToken);
+				return new PortfolioSolution(solution.getState(), solution.getFitness(), solution.getNbIterations(), solution.isCompleted(), runOffset, queenPuzzleAlgorithmSolver.getClass().getSimpleName());
+			});
+		}
+
+		PortfolioSolution bestSolution = null;
+		try {
+			Future<PortfolioSolution> run;
+			PortfolioSolution solution;
+			for (int nbFinishedRuns = 0; nbFinishedRuns < nbRuns; nbFinishedRuns++) {
+				run = cancellationToken.isCancelled() ? completionService.take() : completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+				if (run == null) {
+					// The time budget is expired, the runs return their best solution as soon as they are cancelled
+					cancellationToken.cancel();
+					run = completionService.take();
+				}
+
+				solution = run.get();
+				if (bestSolution == null || solution.getFitness() < bestSolution.getFitness()) {
+					bestSolution = solution;
+
+					if (bestSolution.getFitness() == 0) {
+						break;
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("The portfolio has been interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("A run of the portfolio has failed.", e.getCause());
+		} finally {
+			cancellationToken.cancel();
+		}
+
+		return bestSolution;
+	}
+}
\ No newline at end of file
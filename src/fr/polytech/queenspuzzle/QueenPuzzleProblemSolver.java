@@ -1,6 +1,9 @@
 package fr.polytech.queenspuzzle;
 
+import fr.polytech.queenspuzzle.algorithms.CancellationToken;
 import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+import fr.polytech.queenspuzzle.randomizers.SplittableRandomizer;
 import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
 
 /**
@@ -26,6 +29,11 @@ public abstract class QueenPuzzleProblemSolver implements QueenPuzzleSolver {
 	 */
 	protected final QueenPuzzleAlgorithmSolver queenPuzzleAlgorithmSolver;
 
+	/**
+	 * The randomizer used to initialize the initial state.
+	 */
+	protected final Randomizer randomizer;
+
 	/**
 	 * Create a queen puzzle problem solver.
 	 * 
@@ -35,9 +43,24 @@ public abstract class QueenPuzzleProblemSolver implements QueenPuzzleSolver {
 	 *            The queen puzzle algorithm solver.
 	 */
 	public QueenPuzzleProblemSolver(int nbQueens, QueenPuzzleAlgorithmSolver queenPuzzleAlgorithmSolver) {
+		this(nbQueens, queenPuzzleAlgorithmSolver, new SplittableRandomizer());
+	}
+
+	/**
+	 * Create a queen puzzle problem solver.
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param queenPuzzleAlgorithmSolver
+	 *            The queen puzzle algorithm solver.
+	 * @param randomizer
+	 *            The randomizer used to initialize the initial state.
+	 */
+	public QueenPuzzleProblemSolver(int nbQueens, QueenPuzzleAlgorithmSolver queenPuzzleAlgorithmSolver, Randomizer randomizer) {
 		this.nbQueens = nbQueens;
 		this.initialState = new int[nbQueens];
 		this.queenPuzzleAlgorithmSolver = queenPuzzleAlgorithmSolver;
+		this.randomizer = randomizer;
 
 		initializeInitialState();
 	}
@@ -51,4 +74,15 @@ public abstract class QueenPuzzleProblemSolver implements QueenPuzzleSolver {
 	public AdvancedSolution solve() {
 		return this.queenPuzzleAlgorithmSolver.solve(this.initialState);
 	}
+
+	/**
+	 * Solve a queen puzzle problem until it's solved, the algorithm ends or the cancellation token is cancelled.
+	 * 
+	 * @param cancellationToken
+	 *            The cancellation token.
+	 * @return An advanced solution which contains for a given state (the best one met so far if cancelled) its associated fitness value with the number of iterations to get it.
+	 */
+	public AdvancedSolution solve(CancellationToken cancellationToken) {
+		return this.queenPuzzleAlgorithmSolver.solve(this.initialState, cancellationToken);
+	}
 }
\ No newline at end of file
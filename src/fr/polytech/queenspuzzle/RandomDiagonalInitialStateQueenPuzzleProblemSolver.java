@@ -1,8 +1,7 @@
 package fr.polytech.queenspuzzle;
 
-import java.security.SecureRandom;
-
 import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
 
 /**
  * This class represents a random diagonal initial state queen puzzle problem solver.
@@ -13,9 +12,16 @@ import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
 public class RandomDiagonalInitialStateQueenPuzzleProblemSolver extends QueenPuzzleProblemSolver {
 
 	/**
-	 * The randomizer.
+	 * Create a random diagonal initial state queen puzzle problem solver.
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param queenPuzzleAlgorithmSolver
+	 *            The queen puzzle algorithm solver.
 	 */
-	public final static SecureRandom RANDOMIZER = new SecureRandom();
+	public RandomDiagonalInitialStateQueenPuzzleProblemSolver(int nbQueens, QueenPuzzleAlgorithmSolver queenPuzzleAlgorithmSolver) {
+		super(nbQueens, queenPuzzleAlgorithmSolver);
+	}
 
 	/**
 	 * Create a random diagonal initial state queen puzzle problem solver.
@@ -24,9 +30,11 @@ public class RandomDiagonalInitialStateQueenPuzzleProblemSolver extends QueenPuz
 	 *            The number of queens.
 	 * @param queenPuzzleAlgorithmSolver
 	 *            The queen puzzle algorithm solver.
+	 * @param randomizer
+	 *            The randomizer used to initialize the initial state.
 	 */
-	public RandomDiagonalInitialStateQueenPuzzleProblemSolver(int nbQueens, QueenPuzzleAlgorithmSolver queenPuzzleAlgorithmSolver) {
-		super(nbQueens, queenPuzzleAlgorithmSolver);
+	public RandomDiagonalInitialStateQueenPuzzleProblemSolver(int nbQueens, QueenPuzzleAlgorithmSolver queenPuzzleAlgorithmSolver, Randomizer randomizer) {
+		super(nbQueens, queenPuzzleAlgorithmSolver, randomizer);
 	}
 
 	@Override
@@ -39,8 +47,8 @@ public class RandomDiagonalInitialStateQueenPuzzleProblemSolver extends QueenPuz
 		int y;
 		int temp;
 		for (int currentPermutation = 0; currentPermutation < this.nbQueens; currentPermutation++) {
-			x = RANDOMIZER.nextInt(this.nbQueens);
-			y = RANDOMIZER.nextInt(this.nbQueens);
+			x = this.randomizer.nextInt(this.nbQueens);
+			y = this.randomizer.nextInt(this.nbQueens);
 
 			temp = this.initialState[x];
 			this.initialState[x] = this.initialState[y];
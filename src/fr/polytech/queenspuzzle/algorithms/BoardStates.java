@@ -0,0 +1,198 @@
+package fr.polytech.queenspuzzle.algorithms;
+
+/**
+ * This class represents a compact storage of several states of the same number of queens, stored one after the other (the state of offset i starts at i * number of queens).
+ *
+ * The lines are stored on bytes, shorts or ints according to the number of queens ({@link #create(int, int)}), so small boards use 4 or 2 times less memory and cache bandwidth than an int[]. The implementations are final and a population only uses one of them, so the calls are inlined by the JIT. {@link #wrap(int[])} adapts an int[] state to this API without copying it.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public abstract class BoardStates {
+
+	/**
+	 * The maximal number of queens of the states stored on bytes.
+	 */
+	public static final int MAX_NB_QUEENS_ON_BYTES = 1 << Byte.SIZE;
+
+	/**
+	 * The maximal number of queens of the states stored on shorts.
+	 */
+	public static final int MAX_NB_QUEENS_ON_SHORTS = 1 << Short.SIZE;
+
+	/**
+	 * The number of queens of a state.
+	 */
+	protected final int nbQueens;
+
+	/**
+	 * The number of states.
+	 */
+	protected final int nbStates;
+
+	/**
+	 * Create board states.
+	 * 
+	 * @param nbStates
+	 *            The number of states.
+	 * @param nbQueens
+	 *            The number of queens of a state.
+	 */
+	protected BoardStates(int nbStates, int nbQueens) {
+		this.nbStates = nbStates;
+		this.nbQueens = nbQueens;
+	}
+
+	/**
+	 * Create board states on the smallest type which can store the lines of a number of queens.
+	 * 
+	 * @param nbStates
+	 *            The number of states.
+	 * @param nbQueens
+	 *            The number of queens of a state.
+	 * @return The board states (all lines are 0).
+	 */
+	public static BoardStates create(int nbStates, int nbQueens) {
+		final int length = Math.multiplyExact(nbStates, nbQueens);
+
+		if (nbQueens <= MAX_NB_QUEENS_ON_BYTES) {
+			return new ByteBoardStates(new byte[length], nbStates, nbQueens);
+		}
+
+		if (nbQueens <= MAX_NB_QUEENS_ON_SHORTS) {
+			return new ShortBoardStates(new short[length], nbStates, nbQueens);
+		}
+
+		return new IntBoardStates(new int[length], nbStates, nbQueens);
+	}
+
+	/**
+	 * Adapt a single int[] state (the changes are applied on it).
+	 * 
+	 * @param state
+	 *            The state.
+	 * @return The board states of the state.
+	 */
+	public static BoardStates wrap(int[] state) {
+		return new IntBoardStates(state, 1, state.length);
+	}
+
+	/**
+	 * Get the offset of the first queen of a state.
+	 * 
+	 * @param state
+	 *            The offset of the state.
+	 * @return The offset of the first queen.
+	 */
+	public final int getStart(int state) {
+		return state * this.nbQueens;
+	}
+
+	/**
+	 * Get the number of queens of a state.
+	 * 
+	 * @return The number of queens.
+	 */
+	public final int getNbQueens() {
+		return this.nbQueens;
+	}
+
+	/**
+	 * Get the number of states.
+	 * 
+	 * @return The number of states.
+	 */
+	public final int getNbStates() {
+		return this.nbStates;
+	}
+
+	/**
+	 * Get a line.
+	 * 
+	 * @param index
+	 *            The offset of the queen (from the first queen of the first state).
+	 * @return The line.
+	 */
+	public abstract int get(int index);
+
+	/**
+	 * Set a line.
+	 * 
+	 * @param index
+	 *            The offset of the queen (from the first queen of the first state).
+	 * @param line
+	 *            The line.
+	 */
+	public abstract void set(int index, int line);
+
+	/**
+	 * Switch the lines of two queens.
+	 * 
+	 * @param index
+	 *            The offset of the first queen.
+	 * @param otherIndex
+	 *            The offset of the second queen.
+	 */
+	public abstract void swap(int index, int otherIndex);
+
+	/**
+	 * Copy some lines into other board states of the same number of queens.
+	 * 
+	 * @param start
+	 *            The offset of the first copied queen.
+	 * @param destination
+	 *            The other board states.
+	 * @param destinationStart
+	 *            The offset of the first queen written into the other board states.
+	 * @param length
+	 *            The number of copied lines.
+	 */
+	public abstract void copy(int start, BoardStates destination, int destinationStart, int length);
+
+	/**
+	 * Copy a state into an int[].
+	 * 
+	 * @param start
+	 *            The offset of the first queen of the state.
+	 * @param state
+	 *            The int[] (of the number of queens).
+	 */
+	public abstract void copyTo(int start, int[] state);
+
+	/**
+	 * Copy an int[] into a state.
+	 * 
+	 * @param state
+	 *            The int[] (of the number of queens).
+	 * @param start
+	 *            The offset of the first queen of the state.
+	 */
+	public abstract void copyFrom(int[] state, int start);
+
+	/**
+	 * Compute the fitness value of a state: the number of ordered pairs of queens on the same line or diagonal.
+	 * 
+	 * @param start
+	 *            The offset of the first queen of the state.
+	 * @return The fitness value.
+	 */
+	public abstract int fitness(int start);
+
+	/**
+	 * Copy some lines line by line, when the types of the board states differ.
+	 * 
+	 * @param start
+	 *            The offset of the first copied queen.
+	 * @param destination
+	 *            The other board states.
+	 * @param destinationStart
+	 *            The offset of the first queen written into the other board states.
+	 * @param length
+	 *            The number of copied lines.
+	 */
+	protected final void copyLines(int start, BoardStates destination, int destinationStart, int length) {
+		for (int index = 0; index < length; index++) {
+			destination.set(destinationStart + index, get(start + index));
+		}
+	}
+}
\ No newline at end of file
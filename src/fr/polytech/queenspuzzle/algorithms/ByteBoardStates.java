@@ -0,0 +1,92 @@
+package fr.polytech.queenspuzzle.algorithms;
+
+/**
+ * This class represents board states whose lines are stored on bytes (up to 256 queens).
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+final class ByteBoardStates extends BoardStates {
+
+	/**
+	 * The lines of the states.
+	 */
+	private final byte[] lines;
+
+	/**
+	 * Create board states on bytes (up to 256 queens).
+	 * 
+	 * @param lines
+	 *            The lines of the states.
+	 * @param nbStates
+	 *            The number of states.
+	 * @param nbQueens
+	 *            The number of queens of a state.
+	 */
+	ByteBoardStates(byte[] lines, int nbStates, int nbQueens) {
+		super(nbStates, nbQueens);
+		this.lines = lines;
+	}
+
+	@Override
+	public int get(int index) {
+		return this.lines[index] & 0xFF;
+	}
+
+	@Override
+	public void set(int index, int line) {
+		this.lines[index] = (byte) line;
+	}
+
+	@Override
+	public void swap(int index, int otherIndex) {
+		final byte line = this.lines[index];
+		this.lines[index] = this.lines[otherIndex];
+		this.lines[otherIndex] = line;
+	}
+
+	@Override
+	public void copy(int start, BoardStates destination, int destinationStart, int length) {
+		if (destination instanceof ByteBoardStates) {
+			System.arraycopy(this.lines, start, ((ByteBoardStates) destination).lines, destinationStart, length);
+		} else {
+			copyLines(start, destination, destinationStart, length);
+		}
+	}
+
+	@Override
+	public void copyTo(int start, int[] state) {
+		for (int column = 0; column < this.nbQueens; column++) {
+			state[column] = this.lines[start + column] & 0xFF;
+		}
+	}
+
+	@Override
+	public void copyFrom(int[] state, int start) {
+		for (int column = 0; column < this.nbQueens; column++) {
+			this.lines[start + column] = (byte) state[column];
+		}
+	}
+
+	@Override
+	public int fitness(int start) {
+		final byte[] lines = this.lines;
+		final int end = start + this.nbQueens;
+
+		// Each pair of queens on the same line or diagonal is counted in both directions
+		int fitness = 0;
+		int line;
+		int delta;
+		for (int x = start; x < end; x++) {
+			line = lines[x] & 0xFF;
+			for (int otherX = x + 1; otherX < end; otherX++) {
+				delta = (lines[otherX] & 0xFF) - line;
+				if (delta == 0 || delta == otherX - x || delta == x - otherX) {
+					fitness += 2;
+				}
+			}
+		}
+
+		return fitness;
+	}
+}
\ No newline at end of file
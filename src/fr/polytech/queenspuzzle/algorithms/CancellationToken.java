@@ -0,0 +1,82 @@
+package fr.polytech.queenspuzzle.algorithms;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class represents a cancellation token, checked by the algorithm solvers in their main loop to stop cooperatively and return the best solution met so far.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class CancellationToken {
+
+	/**
+	 * The token which is never cancelled.
+	 */
+	public static final CancellationToken NONE = new CancellationToken() {
+
+		@Override
+		public void cancel() {
+			// Never cancelled
+		}
+	};
+
+	/**
+	 * The period (a power of two) of the checks done by {@link #isCancelled(long)} in the loops whose iterations are cheap.
+	 */
+	public static final int CHECK_PERIOD = 1024;
+
+	/**
+	 * True if the token has been cancelled.
+	 */
+	private volatile boolean cancelled;
+
+	/**
+	 * Create a cancellation token.
+	 */
+	public CancellationToken() {
+		this.cancelled = false;
+	}
+
+	/**
+	 * Cancel the token.
+	 */
+	public void cancel() {
+		this.cancelled = true;
+	}
+
+	/**
+	 * Check if the token has been cancelled.
+	 * 
+	 * @return True if the token has been cancelled, else False.
+	 */
+	public boolean isCancelled() {
+		return this.cancelled;
+	}
+
+	/**
+	 * Check if the token has been cancelled, only once every {@link #CHECK_PERIOD} iterations.
+	 * 
+	 * @param iteration
+	 *            The current iteration.
+	 * @return True if the token has been checked and cancelled, else False.
+	 */
+	public boolean isCancelled(long iteration) {
+		return (iteration & (CHECK_PERIOD - 1)) == 0 && isCancelled();
+	}
+
+	/**
+	 * Create a token which is cancelled when a parent token is cancelled or when a time budget (starting now) expires.
+	 * 
+	 * @param parent
+	 *            The parent token.
+	 * @param timeBudget
+	 *            The time budget.
+	 * @param timeUnit
+	 *            The unit of the time budget.
+	 * @return The created token.
+	 */
+	public static CancellationToken withDeadline(CancellationToken parent, long timeBudget, TimeUnit timeUnit) {
+		return new DeadlineCancellationToken(parent, System.nanoTime() + timeUnit.toNanos(timeBudget));
+	}
+}
\ No newline at end of file
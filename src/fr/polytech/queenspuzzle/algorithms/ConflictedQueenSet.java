@@ -0,0 +1,160 @@
+package fr.polytech.queenspuzzle.algorithms;
+
+import java.util.Arrays;
+
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+
+/**
+ * This class represents a set of conflicted queens (their columns), with O(1) insertion, removal and random pick.
+ *
+ * The set may be lazy: a queen may stay in it after its conflicts have been solved by another move, so the users check the picked queens against the board and {@link #rebuild(DiagonalConflictBoard)} the set when it's drained.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class ConflictedQueenSet {
+
+	/**
+	 * The offset of a queen which doesn't belong to the set.
+	 */
+	private static final int NO_OFFSET = -1;
+
+	/**
+	 * The columns of the queens in the set.
+	 */
+	private final int[] queens;
+
+	/**
+	 * The offset of each queen into the set (offset = column).
+	 */
+	private final int[] offsets;
+
+	/**
+	 * The number of queens in the set.
+	 */
+	private int size;
+
+	/**
+	 * Create an empty conflicted queen set.
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 */
+	public ConflictedQueenSet(int nbQueens) {
+		this.queens = new int[nbQueens];
+		this.offsets = new int[nbQueens];
+		this.size = 0;
+
+		Arrays.fill(this.offsets, NO_OFFSET);
+	}
+
+	/**
+	 * Fill the set with the attacked queens of a board, in O(n).
+	 * 
+	 * @param board
+	 *            The board.
+	 */
+	public void rebuild(DiagonalConflictBoard board) {
+		clear();
+
+		for (int column = 0; column < board.getNbQueens(); column++) {
+			if (board.isAttacked(column)) {
+				add(column);
+			}
+		}
+	}
+
+	/**
+	 * Add a queen.
+	 * 
+	 * @param column
+	 *            The column of the queen.
+	 */
+	public void add(int column) {
+		if (this.offsets[column] == NO_OFFSET) {
+			this.queens[this.size] = column;
+			this.offsets[column] = this.size;
+			this.size++;
+		}
+	}
+
+	/**
+	 * Remove a queen.
+	 * 
+	 * @param column
+	 *            The column of the queen.
+	 */
+	public void remove(int column) {
+		final int offset = this.offsets[column];
+		if (offset != NO_OFFSET) {
+			// Move the last queen into the hole
+			this.size--;
+			final int lastQueen = this.queens[this.size];
+			this.queens[offset] = lastQueen;
+			this.offsets[lastQueen] = offset;
+			this.offsets[column] = NO_OFFSET;
+		}
+	}
+
+	/**
+	 * Check if a queen belongs to the set.
+	 * 
+	 * @param column
+	 *            The column of the queen.
+	 * @return True if the queen belongs to the set, else False.
+	 */
+	public boolean contains(int column) {
+		return this.offsets[column] != NO_OFFSET;
+	}
+
+	/**
+	 * Remove all queens.
+	 */
+	public void clear() {
+		for (int offset = 0; offset < this.size; offset++) {
+			this.offsets[this.queens[offset]] = NO_OFFSET;
+		}
+
+		this.size = 0;
+	}
+
+	/**
+	 * Get a queen of the set.
+	 * 
+	 * @param offset
+	 *            The offset of the queen into the set.
+	 * @return The column of the queen.
+	 */
+	public int get(int offset) {
+		return this.queens[offset];
+	}
+
+	/**
+	 * Get a random queen of the set, which must not be empty.
+	 * 
+	 * @param randomizer
+	 *            The randomizer.
+	 * @return The column of the queen.
+	 */
+	public int random(Randomizer randomizer) {
+		return this.queens[randomizer.nextInt(this.size)];
+	}
+
+	/**
+	 * Get the number of queens in the set.
+	 * 
+	 * @return The number of queens.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Check if the set is empty.
+	 * 
+	 * @return True if the set is empty, else False.
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+}
\ No newline at end of file
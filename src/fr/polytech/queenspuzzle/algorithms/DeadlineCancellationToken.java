@@ -0,0 +1,39 @@
+package fr.polytech.queenspuzzle.algorithms;
+
+/**
+ * This class represents a cancellation token which is also cancelled when its parent is cancelled or when its deadline is reached.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+class DeadlineCancellationToken extends CancellationToken {
+
+	/**
+	 * The parent token.
+	 */
+	private final CancellationToken parent;
+
+	/**
+	 * The deadline (compared to {@link System#nanoTime()}).
+	 */
+	private final long deadline;
+
+	/**
+	 * Create a deadline cancellation token.
+	 * 
+	 * @param parent
+	 *            The parent token.
+	 * @param deadline
+	 *            The deadline (compared to {@link System#nanoTime()}).
+	 */
+	public DeadlineCancellationToken(CancellationToken parent, long deadline) {
+		super();
+		this.parent = parent;
+		this.deadline = deadline;
+	}
+
+	@Override
+	public boolean isCancelled() {
+		return super.isCancelled() || this.parent.isCancelled() || System.nanoTime() - this.deadline >= 0;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,252 @@
+package fr.polytech.queenspuzzle.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * This class represents a diagonal conflict board which keeps the number of queens on each diagonal of a queens state.
+ *
+ * The fitness value is the same as {@link QueenPuzzleAlgorithmSolver#fitness(int[])} (each attacking pair is counted twice), but swaps are evaluated in O(1) and the counters are rebuilt in O(n).
+ *
+ * The fitness value is kept on a long, as it exceeds an int once a diagonal holds about 46,000 queens (e.g. a random diagonal initial state of a few hundred thousand queens): {@link #getFitness()} saturates it at Integer.MAX_VALUE, while the searches which add variations to it use {@link #getExactFitness()}. The variation of a swap always fits an int.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class DiagonalConflictBoard {
+
+	/**
+	 * The number of queens.
+	 */
+	private final int nbQueens;
+
+	/**
+	 * The queens state (offset = column ; value = line), updated in place.
+	 */
+	private final int[] queensState;
+
+	/**
+	 * The number of queens on each up diagonal (offset = column + line).
+	 */
+	private final int[] upDiagonals;
+
+	/**
+	 * The number of queens on each down diagonal (offset = column - line + nbQueens - 1).
+	 */
+	private final int[] downDiagonals;
+
+	/**
+	 * The fitness value.
+	 */
+	private long fitness;
+
+	/**
+	 * Create a diagonal conflict board.
+	 *
+	 * @param queensState
+	 *            The queens state (not copied, swaps are applied on it).
+	 */
+	public DiagonalConflictBoard(int[] queensState) {
+		this.nbQueens = queensState.length;
+		this.queensState = queensState;
+		this.upDiagonals = new int[Math.max(2 * this.nbQueens - 1, 0)];
+		this.downDiagonals = new int[Math.max(2 * this.nbQueens - 1, 0)];
+
+		rebuild();
+	}
+
+	/**
+	 * Rebuild the diagonal counters and the fitness value from the queens state.
+	 */
+	public void rebuild() {
+		Arrays.fill(this.upDiagonals, 0);
+		Arrays.fill(this.downDiagonals, 0);
+
+		for (int column = 0; column < this.nbQueens; column++) {
+			this.upDiagonals[column + this.queensState[column]]++;
+			this.downDiagonals[column - this.queensState[column] + this.nbQueens - 1]++;
+		}
+
+		long fitness = 0;
+		for (int diagonal = 0; diagonal < this.upDiagonals.length; diagonal++) {
+			fitness += (long) this.upDiagonals[diagonal] * (this.upDiagonals[diagonal] - 1);
+			fitness += (long) this.downDiagonals[diagonal] * (this.downDiagonals[diagonal] - 1);
+		}
+
+		this.fitness = fitness;
+	}
+
+	/**
+	 * Compute the fitness variation induced by the switch of two columns, without applying it.
+	 *
+	 * @param x
+	 *            The first column.
+	 * @param y
+	 *            The second column.
+	 * @return The fitness variation.
+	 */
+	public int deltaForSwap(int x, int y) {
+		if (x == y) {
+			return 0;
+		}
+
+		final int xLine = this.queensState[x];
+		final int yLine = this.queensState[y];
+		final int offset = this.nbQueens - 1;
+
+		return diagonalsDelta(this.upDiagonals, x + xLine, y + yLine, x + yLine, y + xLine) + diagonalsDelta(this.downDiagonals, x - xLine + offset, y - yLine + offset, x - yLine + offset, y - xLine + offset);
+	}
+
+	/**
+	 * Switch two columns and update the diagonal counters and the fitness value.
+	 *
+	 * @param x
+	 *            The first column.
+	 * @param y
+	 *            The second column.
+	 */
+	public void swap(int x, int y) {
+		if (x == y) {
+			return;
+		}
+
+		this.fitness += deltaForSwap(x, y);
+
+		final int xLine = this.queensState[x];
+		final int yLine = this.queensState[y];
+		final int offset = this.nbQueens - 1;
+
+		this.upDiagonals[x + xLine]--;
+		this.upDiagonals[y + yLine]--;
+		this.upDiagonals[x + yLine]++;
+		this.upDiagonals[y + xLine]++;
+
+		this.downDiagonals[x - xLine + offset]--;
+		this.downDiagonals[y - yLine + offset]--;
+		this.downDiagonals[x - yLine + offset]++;
+		this.downDiagonals[y - xLine + offset]++;
+
+		this.queensState[x] = yLine;
+		this.queensState[y] = xLine;
+	}
+
+	/**
+	 * Check if the queen of a given column shares a diagonal with another queen.
+	 *
+	 * @param column
+	 *            The column.
+	 * @return True if the queen is attacked, else False.
+	 */
+	public boolean isAttacked(int column) {
+		final int line = this.queensState[column];
+		return this.upDiagonals[column + line] > 1 || this.downDiagonals[column - line + this.nbQueens - 1] > 1;
+	}
+
+	/**
+	 * Get the number of queens.
+	 *
+	 * @return The number of queens.
+	 */
+	public int getNbQueens() {
+		return this.nbQueens;
+	}
+
+	/**
+	 * Get the queens state.
+	 *
+	 * @return The queens state.
+	 */
+	public int[] getState() {
+		return this.queensState;
+	}
+
+	/**
+	 * Get the fitness value, saturated at Integer.MAX_VALUE.
+	 *
+	 * @return The fitness value.
+	 */
+	public int getFitness() {
+		return saturate(this.fitness);
+	}
+
+	/**
+	 * Get the exact fitness value.
+	 *
+	 * @return The fitness value.
+	 */
+	public long getExactFitness() {
+		return this.fitness;
+	}
+
+	/**
+	 * Saturate a fitness value at Integer.MAX_VALUE.
+	 *
+	 * @param fitness
+	 *            The fitness value.
+	 * @return The saturated fitness value.
+	 */
+	public static int saturate(long fitness) {
+		return (int) Math.min(fitness, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Compute the fitness variation of a diagonals family when two queens leave the diagonals p and q and two queens join the diagonals r and s.
+	 *
+	 * @param diagonals
+	 *            The diagonal counters.
+	 * @param p
+	 *            The first left diagonal.
+	 * @param q
+	 *            The second left diagonal.
+	 * @param r
+	 *            The first joined diagonal.
+	 * @param s
+	 *            The second joined diagonal.
+	 * @return The fitness variation.
+	 */
+	private static int diagonalsDelta(int[] diagonals, int p, int q, int r, int s) {
+		int delta = diagonalDelta(diagonals[p], variation(p, p, q, r, s));
+		if (q != p) {
+			delta += diagonalDelta(diagonals[q], variation(q, p, q, r, s));
+		}
+		if (r != p && r != q) {
+			delta += diagonalDelta(diagonals[r], variation(r, p, q, r, s));
+		}
+		if (s != p && s != q && s != r) {
+			delta += diagonalDelta(diagonals[s], variation(s, p, q, r, s));
+		}
+
+		return delta;
+	}
+
+	/**
+	 * Compute the variation of the number of queens on a diagonal.
+	 *
+	 * @param diagonal
+	 *            The diagonal.
+	 * @param p
+	 *            The first left diagonal.
+	 * @param q
+	 *            The second left diagonal.
+	 * @param r
+	 *            The first joined diagonal.
+	 * @param s
+	 *            The second joined diagonal.
+	 * @return The variation of the number of queens.
+	 */
+	private static int variation(int diagonal, int p, int q, int r, int s) {
+		return (diagonal == r ? 1 : 0) + (diagonal == s ? 1 : 0) - (diagonal == p ? 1 : 0) - (diagonal == q ? 1 : 0);
+	}
+
+	/**
+	 * Compute the fitness variation of a diagonal (count * (count - 1) attacking pairs) when its number of queens changes.
+	 *
+	 * @param count
+	 *            The current number of queens.
+	 * @param variation
+	 *            The variation of the number of queens.
+	 * @return The fitness variation.
+	 */
+	private static int diagonalDelta(int count, int variation) {
+		return variation * (2 * count + variation - 1);
+	}
+}
@@ -0,0 +1,88 @@
+package fr.polytech.queenspuzzle.algorithms;
+
+/**
+ * This class represents board states whose lines are stored on ints.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+final class IntBoardStates extends BoardStates {
+
+	/**
+	 * The lines of the states.
+	 */
+	private final int[] lines;
+
+	/**
+	 * Create board states on ints.
+	 * 
+	 * @param lines
+	 *            The lines of the states.
+	 * @param nbStates
+	 *            The number of states.
+	 * @param nbQueens
+	 *            The number of queens of a state.
+	 */
+	IntBoardStates(int[] lines, int nbStates, int nbQueens) {
+		super(nbStates, nbQueens);
+		this.lines = lines;
+	}
+
+	@Override
+	public int get(int index) {
+		return this.lines[index];
+	}
+
+	@Override
+	public void set(int index, int line) {
+		this.lines[index] = line;
+	}
+
+	@Override
+	public void swap(int index, int otherIndex) {
+		final int line = this.lines[index];
+		this.lines[index] = this.lines[otherIndex];
+		this.lines[otherIndex] = line;
+	}
+
+	@Override
+	public void copy(int start, BoardStates destination, int destinationStart, int length) {
+		if (destination instanceof IntBoardStates) {
+			System.arraycopy(this.lines, start, ((IntBoardStates) destination).lines, destinationStart, length);
+		} else {
+			copyLines(start, destination, destinationStart, length);
+		}
+	}
+
+	@Override
+	public void copyTo(int start, int[] state) {
+		System.arraycopy(this.lines, start, state, 0, this.nbQueens);
+	}
+
+	@Override
+	public void copyFrom(int[] state, int start) {
+		System.arraycopy(state, 0, this.lines, start, this.nbQueens);
+	}
+
+	@Override
+	public int fitness(int start) {
+		final int[] lines = this.lines;
+		final int end = start + this.nbQueens;
+
+		// Each pair of queens on the same line or diagonal is counted in both directions
+		int fitness = 0;
+		int line;
+		int delta;
+		for (int x = start; x < end; x++) {
+			line = lines[x];
+			for (int otherX = x + 1; otherX < end; otherX++) {
+				delta = lines[otherX] - line;
+				if (delta == 0 || delta == otherX - x || delta == x - otherX) {
+					fitness += 2;
+				}
+			}
+		}
+
+		return fitness;
+	}
+}
\ No newline at end of file
@@ -1,5 +1,13 @@
 package fr.polytech.queenspuzzle.algorithms;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import fr.polytech.queenspuzzle.metrics.SolverMetrics;
+import fr.polytech.queenspuzzle.progress.ProgressListener;
+import fr.polytech.queenspuzzle.progress.ProgressReporter;
 import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
 
 /**
@@ -10,10 +18,50 @@ import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
  */
 public abstract class QueenPuzzleAlgorithmSolver {
 
+	/**
+	 * The progress listeners.
+	 */
+	private final List<ProgressListener> progressListeners;
+
 	/**
 	 * Create a queen puzzle algorithm solver.
 	 */
 	public QueenPuzzleAlgorithmSolver() {
+		this.progressListeners = new CopyOnWriteArrayList<ProgressListener>();
+	}
+
+	/**
+	 * Add a progress listener, which receives the progress of the next runs.
+	 * 
+	 * @param progressListener
+	 *            The progress listener.
+	 */
+	public void addProgressListener(ProgressListener progressListener) {
+		this.progressListeners.add(progressListener);
+	}
+
+	/**
+	 * Remove a progress listener.
+	 * 
+	 * @param progressListener
+	 *            The progress listener.
+	 */
+	public void removeProgressListener(ProgressListener progressListener) {
+		this.progressListeners.remove(progressListener);
+	}
+
+	/**
+	 * Create the progress reporter of a run.
+	 * 
+	 * @return The progress reporter ({@link ProgressReporter#NONE} without listeners nor registered solver metrics).
+	 */
+	protected ProgressReporter createProgressReporter() {
+		final SolverMetrics solverMetrics = SolverMetrics.getRegisteredMetrics();
+		if (this.progressListeners.isEmpty() && solverMetrics == null) {
+			return ProgressReporter.NONE;
+		}
+
+		return new ProgressReporter(getClass().getSimpleName(), new ArrayList<ProgressListener>(this.progressListeners), solverMetrics);
 	}
 
 	/**
@@ -24,44 +72,18 @@ public abstract class QueenPuzzleAlgorithmSolver {
 	 * @return The computed fitness value.
 	 */
 	public int fitness(int[] queensState) {
-		final int nbQueens = queensState.length;
-		int fitness = 0;
-
-		int x, y, queen_x, queen_y;
-		for (int currentQueen = 0; currentQueen < nbQueens; currentQueen++) {
-			x = currentQueen;
-			y = queensState[currentQueen];
-
-			// Right up.
-			for (queen_x = x + 1, queen_y = y + 1; (queen_y < nbQueens) && (queen_x < nbQueens); queen_y++, queen_x++) {
-				if (queensState[queen_x] == queen_y) {
-					fitness++;
-				}
-			}
-
-			// Right down.
-			for (queen_x = x + 1, queen_y = y - 1; (queen_y >= 0) && (queen_x < nbQueens); queen_y--, queen_x++) {
-				if (queensState[queen_x] == queen_y) {
-					fitness++;
-				}
-			}
-
-			// Left up.
-			for (queen_x = x - 1, queen_y = y + 1; (queen_y < nbQueens) && (queen_x >= 0); queen_y++, queen_x--) {
-				if (queensState[queen_x] == queen_y) {
-					fitness++;
-				}
-			}
-
-			// Left down.
-			for (queen_x = x - 1, queen_y = y - 1; (queen_y >= 0) && (queen_x >= 0); queen_y--, queen_x--) {
-				if (queensState[queen_x] == queen_y) {
-					fitness++;
-				}
-			}
-		}
+		return createBoard(queensState).getFitness();
+	}
 
-		return fitness;
+	/**
+	 * Create a diagonal conflict board on a queens state, to evaluate and apply switches of columns in constant time.
+	 * 
+	 * @param queensState
+	 *            The queens state (switches are applied on it).
+	 * @return The diagonal conflict board.
+	 */
+	protected DiagonalConflictBoard createBoard(int[] queensState) {
+		return new DiagonalConflictBoard(queensState);
 	}
 
 	/**
@@ -71,5 +93,54 @@ public abstract class QueenPuzzleAlgorithmSolver {
 	 *            An initial state.
 	 * @return An advanced solution which contains for a given state its associated fitness value with the number of iterations to get it.
 	 */
-	public abstract AdvancedSolution solve(int[] initialState);
+	public AdvancedSolution solve(int[] initialState) {
+		return solve(initialState, CancellationToken.NONE);
+	}
+
+	/**
+	 * Solve the queen puzzle problem with an efficient algorithm, until it's solved, the algorithm ends or the cancellation token is cancelled.
+	 * 
+	 * @param initialState
+	 *            An initial state.
+	 * @param cancellationToken
+	 *            The cancellation token.
+	 * @return An advanced solution which contains for a given state (the best one met so far if cancelled) its associated fitness value with the number of iterations to get it, flagged as not completed if cancelled.
+	 */
+	public AdvancedSolution solve(int[] initialState, CancellationToken cancellationToken) {
+		final ProgressReporter progressReporter = createProgressReporter();
+		final AdvancedSolution solution = solve(initialState, cancellationToken, progressReporter);
+		progressReporter.finish(solution);
+
+		return solution;
+	}
+
+	/**
+	 * Solve the queen puzzle problem with an efficient algorithm, until it's solved, the algorithm ends or the cancellation token is cancelled, reporting the progress of the run.
+	 * 
+	 * @param initialState
+	 *            An initial state.
+	 * @param cancellationToken
+	 *            The cancellation token.
+	 * @param progressReporter
+	 *            The progress reporter of the run.
+	 * @return An advanced solution which contains for a given state (the best one met so far if cancelled) its associated fitness value with the number of iterations to get it, flagged as not completed if cancelled.
+	 */
+	protected abstract AdvancedSolution solve(int[] initialState, CancellationToken cancellationToken, ProgressReporter progressReporter);
+
+	/**
+	 * Solve the queen puzzle problem with an efficient algorithm, until it's solved, the algorithm ends, the time budget expires or the cancellation token is cancelled.
+	 * 
+	 * @param initialState
+	 *            An initial state.
+	 * @param timeBudget
+	 *            The time budget.
+	 * @param timeUnit
+	 *            The unit of the time budget.
+	 * @param cancellationToken
+	 *            The cancellation token.
+	 * @return An advanced solution which contains for a given state (the best one met so far if cut off) its associated fitness value with the number of iterations to get it.
+	 */
+	public AdvancedSolution solve(int[] initialState, long timeBudget, TimeUnit timeUnit, CancellationToken cancellationToken) {
+		return solve(initialState, CancellationToken.withDeadline(cancellationToken, timeBudget, timeUnit));
+	}
 }
\ No newline at end of file
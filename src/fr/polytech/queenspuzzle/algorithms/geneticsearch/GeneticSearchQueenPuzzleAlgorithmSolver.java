@@ -1,11 +1,15 @@
 package fr.polytech.queenspuzzle.algorithms.geneticsearch;
 
-import java.security.SecureRandom;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
+import fr.polytech.queenspuzzle.algorithms.BoardStates;
+import fr.polytech.queenspuzzle.algorithms.CancellationToken;
 import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.progress.ProgressReporter;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+import fr.polytech.queenspuzzle.randomizers.SplittableRandomizer;
 import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
 import fr.polytech.queenspuzzle.solutions.Solution;
 
@@ -18,9 +22,14 @@ import fr.polytech.queenspuzzle.solutions.Solution;
 public class GeneticSearchQueenPuzzleAlgorithmSolver extends QueenPuzzleAlgorithmSolver {
 
 	/**
-	 * The randomizer.
+	 * The minimal amount of work (number of states * cost of an evaluation) of an evaluation to run it in parallel.
 	 */
-	public final static SecureRandom RANDOMIZER = new SecureRandom();
+	public static final long PARALLEL_EVALUATION_THRESHOLD = 1L << 22;
+
+	/**
+	 * The second parent of a mutation.
+	 */
+	private static final int NO_PARENT = -1;
 
 	/**
 	 * The number of generations.
@@ -42,6 +51,11 @@ public class GeneticSearchQueenPuzzleAlgorithmSolver extends QueenPuzzleAlgorith
 	 */
 	private final int nbBestStates;
 
+	/**
+	 * The randomizer.
+	 */
+	private final Randomizer randomizer;
+
 	/**
 	 * Create a genetic search queen puzzle algorithm solver.
 	 * 
@@ -55,99 +69,202 @@ public class GeneticSearchQueenPuzzleAlgorithmSolver extends QueenPuzzleAlgorith
 	 *            The number of best states to get during the reproduction process.
 	 */
 	public GeneticSearchQueenPuzzleAlgorithmSolver(int nbGenerations, double crossoverAcceptanceProbability, int populationSize, int nbBestStates) {
+		this(nbGenerations, crossoverAcceptanceProbability, populationSize, nbBestStates, new SplittableRandomizer());
+	}
+
+	/**
+	 * Create a genetic search queen puzzle algorithm solver.
+	 * 
+	 * @param nbGenerations
+	 *            The number of generations.
+	 * @param crossoverAcceptanceProbability
+	 *            The crossover acceptance probability.
+	 * @param populationSize
+	 *            The population size.
+	 * @param nbBestStates
+	 *            The number of best states to get during the reproduction process.
+	 * @param randomizer
+	 *            The randomizer.
+	 */
+	public GeneticSearchQueenPuzzleAlgorithmSolver(int nbGenerations, double crossoverAcceptanceProbability, int populationSize, int nbBestStates, Randomizer randomizer) {
 		super();
 		this.nbGenerations = nbGenerations;
 		this.crossoverAcceptanceProbability = crossoverAcceptanceProbability;
 		this.populationSize = populationSize;
 		this.nbBestStates = nbBestStates;
+		this.randomizer = randomizer;
+	}
+
+	/**
+	 * Get the number of generations.
+	 * 
+	 * @return The number of generations.
+	 */
+	public int getNbGenerations() {
+		return this.nbGenerations;
+	}
+
+	/**
+	 * Get the population size.
+	 * 
+	 * @return The population size.
+	 */
+	public int getPopulationSize() {
+		return this.populationSize;
+	}
+
+	/**
+	 * Get the number of new states (evaluated ones) per generation.
+	 * 
+	 * @return The number of new states per generation.
+	 */
+	int getNbNewStates() {
+		return Math.max(this.populationSize - this.nbBestStates, 0);
 	}
 
 	@Override
 	public int fitness(int[] queensState) {
-		final int nbQueens = queensState.length;
-		int fitness = 0;
-
-		int x, y, queen_x, queen_y;
-		for (int currentQueen = 0; currentQueen < nbQueens; currentQueen++) {
-			x = currentQueen;
-			y = queensState[currentQueen];
-
-			// Horizontal right.
-			for (queen_x = x + 1, queen_y = y; queen_x < nbQueens; queen_x++) {
-				if (queensState[queen_x] == queen_y) {
-					fitness++;
-				}
-			}
+		return fitness(BoardStates.wrap(queensState), 0);
+	}
 
-			// Horizontal left.
-			for (queen_x = x - 1, queen_y = y; queen_x >= 0; queen_x--) {
-				if (queensState[queen_x] == queen_y) {
-					fitness++;
-				}
-			}
+	/**
+	 * Get the fitness value of a state stored into board states.
+	 * 
+	 * @param states
+	 *            The board states.
+	 * @param start
+	 *            The offset of the first queen of the state.
+	 * @return The fitness value.
+	 */
+	int fitness(BoardStates states, int start) {
+		return states.fitness(start);
+	}
 
-			// Right up.
-			for (queen_x = x + 1, queen_y = y + 1; (queen_y < nbQueens) && (queen_x < nbQueens); queen_y++, queen_x++) {
-				if (queensState[queen_x] == queen_y) {
-					fitness++;
-				}
-			}
+	@Override
+	protected AdvancedSolution solve(int[] initialState, CancellationToken cancellationToken, ProgressReporter progressReporter) {
+		final Solution bestSolution = new Solution(new int[initialState.length], Integer.MAX_VALUE);
 
-			// Right down.
-			for (queen_x = x + 1, queen_y = y - 1; (queen_y >= 0) && (queen_x < nbQueens); queen_y--, queen_x++) {
-				if (queensState[queen_x] == queen_y) {
-					fitness++;
-				}
-			}
+		final PopulationPool populationPool = generateInitialPopulation(this.populationSize, initialState.length);
+		getBestSolution(populationPool.getCurrentPopulation(), bestSolution);
 
-			// Left up.
-			for (queen_x = x - 1, queen_y = y + 1; (queen_y < nbQueens) && (queen_x >= 0); queen_y++, queen_x--) {
-				if (queensState[queen_x] == queen_y) {
-					fitness++;
-				}
+		progressReporter.setNbEvaluationsPerIteration(getNbNewStates());
+
+		long nbEvaluations = this.populationSize;
+		int currentGeneration;
+		for (currentGeneration = 0; currentGeneration < this.nbGenerations && !cancellationToken.isCancelled(); currentGeneration++) {
+			nbEvaluations += nextGeneration(populationPool);
+			getBestSolution(populationPool.getCurrentPopulation(), bestSolution);
+
+			if (progressReporter.isSampled(currentGeneration + 1)) {
+				progressReporter.report(currentGeneration + 1, getBestFitness(populationPool.getCurrentPopulation()), bestSolution.getFitness());
 			}
 
-			// Left down.
-			for (queen_x = x - 1, queen_y = y - 1; (queen_y >= 0) && (queen_x >= 0); queen_y--, queen_x--) {
-				if (queensState[queen_x] == queen_y) {
-					fitness++;
-				}
+			if (bestSolution.getFitness() == 0) {
+				currentGeneration++;
+				break;
 			}
 		}
 
-		return fitness;
-	}
+		progressReporter.setNbEvaluations(nbEvaluations);
+		progressReporter.setNbGenerations(currentGeneration);
 
-	@Override
-	public AdvancedSolution solve(int[] initialState) {
-		final Solution bestSolution = new Solution(null, Integer.MAX_VALUE);
+		return new AdvancedSolution(bestSolution.getState(), bestSolution.getFitness(), currentGeneration, bestSolution.getFitness() == 0 || currentGeneration >= this.nbGenerations);
+	}
 
-		List<int[]> population = generateInitialPopulation(this.populationSize, initialState.length);
-		getBestSolution(population, bestSolution);
+	/**
+	 * Replace the current population of a population pool by the next generation.
+	 * 
+	 * The random operations are drawn sequentially, then the new states are written and evaluated directly into the next population (in parallel for large populations).
+	 * 
+	 * @param populationPool
+	 *            The population pool.
+	 * @return The number of fitness evaluations.
+	 */
+	int nextGeneration(PopulationPool populationPool) {
+		return nextGeneration(populationPool, this.randomizer);
+	}
 
-		List<int[]> rouletteWheelPopulation = null;
-		int currentGeneration;
-		for (currentGeneration = 0; currentGeneration < this.nbGenerations; currentGeneration++) {
-			rouletteWheelPopulation = rouletteWheelReproduction(population);
-			population = bestSolutionsReproduction(this.nbBestStates, population);
-
-			for (int index = this.nbBestStates; index < this.populationSize; index++) {
-				if (RANDOMIZER.nextDouble() < this.crossoverAcceptanceProbability) {
-					population.add(crossover(rouletteWheelPopulation));
-				} else {
-					population.add(mutation(rouletteWheelPopulation));
-				}
+	/**
+	 * Replace the current population of a population pool by the next generation, drawing the random operations from a given randomizer.
+	 * 
+	 * @param populationPool
+	 *            The population pool.
+	 * @param randomizer
+	 *            The randomizer.
+	 * @return The number of fitness evaluations (two per crossover, one per mutation).
+	 */
+	int nextGeneration(PopulationPool populationPool, Randomizer randomizer) {
+		final Population population = populationPool.getCurrentPopulation();
+		final Population nextPopulation = populationPool.getNextPopulation();
+
+		final int nbSelectedStates = rouletteWheelReproduction(population, populationPool.getSelectedStates(), randomizer);
+		bestSolutionsReproduction(this.nbBestStates, population, nextPopulation, populationPool.getSortKeys());
+
+		// Draw the operations (mutations have no second parent)
+		final int nbNewStates = getNbNewStates();
+		final int nbQueens = population.getNbQueens();
+		final int[] selectedStates = populationPool.getSelectedStates();
+		final int[] firstParents = populationPool.getFirstParents();
+		final int[] secondParents = populationPool.getSecondParents();
+		final int[] positions = populationPool.getPositions();
+		final int[] values = populationPool.getValues();
+		int nbEvaluations = nbNewStates;
+		for (int index = 0; index < nbNewStates; index++) {
+			if (randomizer.nextDouble() < this.crossoverAcceptanceProbability) {
+				nbEvaluations++;
+				firstParents[index] = selectedStates[randomizer.nextInt(nbSelectedStates)];
+				secondParents[index] = selectedStates[randomizer.nextInt(nbSelectedStates)];
+				drawCrossover(randomizer, nbQueens, positions, values, index);
+			} else {
+				firstParents[index] = selectedStates[randomizer.nextInt(nbSelectedStates)];
+				secondParents[index] = NO_PARENT;
+				drawMutation(randomizer, nbQueens, positions, values, index);
 			}
+		}
 
-			getBestSolution(population, bestSolution);
+		// Write and evaluate the new states
+		final int firstNewState = nextPopulation.size();
+		nextPopulation.setSize(firstNewState + nbNewStates);
 
-			if (bestSolution.getFitness() == 0) {
-				currentGeneration++;
-				break;
+		if (nbNewStates * getEvaluationCost(nbQueens) >= PARALLEL_EVALUATION_THRESHOLD) {
+			IntStream.range(0, nbNewStates).parallel().forEach(index -> newState(population, nextPopulation, firstNewState, index, firstParents, secondParents, positions, values));
+		} else {
+			for (int index = 0; index < nbNewStates; index++) {
+				newState(population, nextPopulation, firstNewState, index, firstParents, secondParents, positions, values);
 			}
 		}
 
-		return new AdvancedSolution(bestSolution.getState(), bestSolution.getFitness(), currentGeneration);
+		populationPool.switchPopulations();
+
+		return nbEvaluations;
+	}
+
+	/**
+	 * Write and evaluate a new state into the next population.
+	 * 
+	 * @param population
+	 *            The current population.
+	 * @param nextPopulation
+	 *            The next population.
+	 * @param firstNewState
+	 *            The offset of the first new state into the next population.
+	 * @param index
+	 *            The index of the new state.
+	 * @param firstParents
+	 *            The first parents of the new states.
+	 * @param secondParents
+	 *            The second parents of the new states.
+	 * @param positions
+	 *            The crossover indexes or mutated columns of the new states.
+	 * @param values
+	 *            The new lines of the mutated columns of the new states.
+	 */
+	private void newState(Population population, Population nextPopulation, int firstNewState, int index, int[] firstParents, int[] secondParents, int[] positions, int[] values) {
+		if (secondParents[index] == NO_PARENT) {
+			mutation(population, firstParents[index], positions[index], values[index], nextPopulation, firstNewState + index);
+		} else {
+			crossover(population, firstParents[index], secondParents[index], positions[index], values[index], nextPopulation, firstNewState + index);
+		}
 	}
 
 	/**
@@ -158,21 +275,37 @@ public class GeneticSearchQueenPuzzleAlgorithmSolver extends QueenPuzzleAlgorith
 	 * @param bestSolution
 	 *            The current best solution which will be overriden or not.
 	 */
-	private void getBestSolution(List<int[]> population, Solution bestSolution) {
-		int[] xMin = bestSolution.getState();
+	private void getBestSolution(Population population, Solution bestSolution) {
+		int xMin = -1;
 		int fMin = bestSolution.getFitness();
 
-		int fitness;
-		for (int[] state : population) {
-			fitness = fitness(state);
-			if (fitness < fMin) {
-				xMin = state.clone();
-				fMin = fitness;
+		for (int index = 0; index < population.size(); index++) {
+			if (population.getFitness(index) < fMin) {
+				xMin = index;
+				fMin = population.getFitness(index);
 			}
 		}
 
-		bestSolution.setState(xMin);
-		bestSolution.setFitness(fMin);
+		if (xMin >= 0) {
+			population.copyState(xMin, bestSolution.getState());
+			bestSolution.setFitness(fMin);
+		}
+	}
+
+	/**
+	 * Get the best fitness value of a given population.
+	 * 
+	 * @param population
+	 *            The population.
+	 * @return The best fitness value.
+	 */
+	private static int getBestFitness(Population population) {
+		int fMin = Integer.MAX_VALUE;
+		for (int index = 0; index < population.size(); index++) {
+			fMin = Math.min(fMin, population.getFitness(index));
+		}
+
+		return fMin;
 	}
 
 	/**
@@ -182,22 +315,108 @@ public class GeneticSearchQueenPuzzleAlgorithmSolver extends QueenPuzzleAlgorith
 	 *            The population size.
 	 * @param nbQueens
 	 *            The number of queens.
-	 * @return The generated population.
+	 * @return The population pool whose current population is the generated one.
 	 */
-	private List<int[]> generateInitialPopulation(int populationSize, int nbQueens) {
-		final List<int[]> population = new ArrayList<int[]>(populationSize);
-
-		int[] state = null;
-		for (int currentState = 0; currentState < populationSize; currentState++) {
-			state = new int[nbQueens];
-			for (int index = 0; index < nbQueens; index++) {
-				state[index] = RANDOMIZER.nextInt(nbQueens);
-			}
+	PopulationPool generateInitialPopulation(int populationSize, int nbQueens) {
+		return generateInitialPopulation(populationSize, nbQueens, this.randomizer);
+	}
 
-			population.add(state);
+	/**
+	 * Generate an initial population from a given randomizer.
+	 * 
+	 * @param populationSize
+	 *            The population size.
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param randomizer
+	 *            The randomizer.
+	 * @return The population pool whose current population is the generated one.
+	 */
+	PopulationPool generateInitialPopulation(int populationSize, int nbQueens, Randomizer randomizer) {
+		final PopulationPool populationPool = new PopulationPool(populationSize, nbQueens);
+		final Population population = populationPool.getCurrentPopulation();
+		final BoardStates states = population.getStates();
+
+		for (int index = 0; index < populationSize; index++) {
+			randomState(randomizer, states, population.getStart(index), nbQueens);
 		}
 
-		return population;
+		population.setSize(populationSize);
+
+		final IntConsumer evaluation = index -> population.setFitness(index, fitness(states, population.getStart(index)));
+		if (populationSize * getEvaluationCost(nbQueens) >= PARALLEL_EVALUATION_THRESHOLD) {
+			IntStream.range(0, populationSize).parallel().forEach(evaluation);
+		} else {
+			IntStream.range(0, populationSize).forEach(evaluation);
+		}
+
+		return populationPool;
+	}
+
+	/**
+	 * Get the cost of the evaluation of a state (in number of operations).
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @return The cost of the evaluation.
+	 */
+	long getEvaluationCost(int nbQueens) {
+		return (long) nbQueens * nbQueens;
+	}
+
+	/**
+	 * Write a random state.
+	 * 
+	 * @param randomizer
+	 *            The randomizer.
+	 * @param states
+	 *            The board states where the state is written.
+	 * @param start
+	 *            The offset of the first queen of the state.
+	 * @param nbQueens
+	 *            The number of queens.
+	 */
+	void randomState(Randomizer randomizer, BoardStates states, int start, int nbQueens) {
+		for (int index = 0; index < nbQueens; index++) {
+			states.set(start + index, randomizer.nextInt(nbQueens));
+		}
+	}
+
+	/**
+	 * Draw the parameters of a crossover operation.
+	 * 
+	 * @param randomizer
+	 *            The randomizer.
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param positions
+	 *            The array where the crossover index is written.
+	 * @param values
+	 *            The array where the second crossover index is written, if any.
+	 * @param index
+	 *            The index of the new state.
+	 */
+	void drawCrossover(Randomizer randomizer, int nbQueens, int[] positions, int[] values, int index) {
+		positions[index] = randomizer.nextInt(nbQueens);
+	}
+
+	/**
+	 * Draw the parameters of a mutation operation.
+	 * 
+	 * @param randomizer
+	 *            The randomizer.
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param positions
+	 *            The array where the mutated column is written.
+	 * @param values
+	 *            The array where the new line of the mutated column is written.
+	 * @param index
+	 *            The index of the new state.
+	 */
+	void drawMutation(Randomizer randomizer, int nbQueens, int[] positions, int[] values, int index) {
+		positions[index] = randomizer.nextInt(nbQueens);
+		values[index] = randomizer.nextInt(nbQueens);
 	}
 
 	/**
@@ -205,110 +424,131 @@ public class GeneticSearchQueenPuzzleAlgorithmSolver extends QueenPuzzleAlgorith
 	 * 
 	 * @param population
 	 *            The population.
-	 * @return The list of selected states.
+	 * @param selectedStates
+	 *            The array where the offsets of the selected states are written.
+	 * @param randomizer
+	 *            The randomizer.
+	 * @return The number of selected states.
 	 */
-	private List<int[]> rouletteWheelReproduction(List<int[]> population) {
+	private static int rouletteWheelReproduction(Population population, int[] selectedStates, Randomizer randomizer) {
 		int fitnessSum = 0;
 		final int populationSize = population.size();
-		final int[] populationFitness = new int[populationSize];
 		for (int index = 0; index < populationSize; index++) {
-			populationFitness[index] = fitness(population.get(index));
-			fitnessSum += populationFitness[index];
+			fitnessSum += population.getFitness(index);
 		}
 
-		final List<int[]> selectedStates = new ArrayList<int[]>();
+		int nbSelectedStates = 0;
 
 		int sum = 0;
 		int randomWheelValue;
 		for (int index = 0; index < populationSize; index++) {
-			randomWheelValue = RANDOMIZER.nextInt(fitnessSum);
+			randomWheelValue = randomizer.nextInt(fitnessSum);
 
 			for (int currentState = 0; currentState < populationSize; currentState++) {
-				sum += fitnessSum - populationFitness[currentState];
+				sum += fitnessSum - population.getFitness(currentState);
 				if (sum >= randomWheelValue) {
-					selectedStates.add(population.get(currentState).clone());
+					selectedStates[nbSelectedStates++] = currentState;
 					break;
 				}
 			}
 		}
 
-		return selectedStates;
+		return nbSelectedStates;
 	}
 
 	/**
-	 * Get the X best solutions into a given population.
+	 * Copy the X best solutions of a given population into the next one.
 	 * 
 	 * @param nbBestStates
 	 *            The number of best solutions to get.
 	 * @param population
 	 *            The population.
-	 * @return The X best solutions.
+	 * @param nextPopulation
+	 *            The next population.
+	 * @param sortKeys
+	 *            The array used to sort the states.
 	 */
-	private List<int[]> bestSolutionsReproduction(int nbBestStates, List<int[]> population) {
-		return population.stream() //
-		        .map(state -> new Solution(state, fitness(state))) //
-		        .sorted((solutionOne, solutionTwo) -> solutionOne.getFitness() - solutionTwo.getFitness()) //
-		        .limit(nbBestStates) //
-		        .map(solution -> solution.getState()) //
-		        .collect(Collectors.toList());
+	private static void bestSolutionsReproduction(int nbBestStates, Population population, Population nextPopulation, long[] sortKeys) {
+		// The offset in the low bits keeps the order of the states with the same fitness value
+		final int populationSize = population.size();
+		for (int index = 0; index < populationSize; index++) {
+			sortKeys[index] = ((long) population.getFitness(index) << 32) | index;
+		}
+
+		Arrays.sort(sortKeys, 0, populationSize);
+
+		for (int index = 0; index < Math.min(nbBestStates, populationSize); index++) {
+			nextPopulation.add(population, (int) sortKeys[index]);
+		}
 	}
 
 	/**
-	 * Apply a crossover operation on states from a given population.
+	 * Apply a crossover operation on two states and keep the best of both children.
 	 * 
 	 * @param population
-	 *            The population.
-	 * @return The best state.
+	 *            The population of the parents.
+	 * @param firstState
+	 *            The offset of the first state.
+	 * @param secondState
+	 *            The offset of the second state.
+	 * @param crossoverIndex
+	 *            The crossover index.
+	 * @param secondCrossoverIndex
+	 *            The second crossover index (unused by the one-point crossover).
+	 * @param nextPopulation
+	 *            The population where the best child is written.
+	 * @param offset
+	 *            The offset of the best child into the next population.
 	 */
-	private int[] crossover(List<int[]> population) {
-		final int size = population.get(0).length;
-
-		int[] xMin = null;
-		int fMin = Integer.MAX_VALUE;
-
-		final int[] x = new int[size];
-		int fX;
-
-		// Crossovers
-		final int firstStateIndex = RANDOMIZER.nextInt(population.size());
-		final int secondStateIndex = RANDOMIZER.nextInt(population.size());
-		final int crossoverIndex = RANDOMIZER.nextInt(size);
-
-		System.arraycopy(population.get(firstStateIndex), 0, x, 0, crossoverIndex);
-		System.arraycopy(population.get(secondStateIndex), crossoverIndex, x, crossoverIndex, size - crossoverIndex);
-
-		fX = fitness(x);
-		if (fX < fMin) {
-			xMin = x.clone();
-			fMin = fX;
+	void crossover(Population population, int firstState, int secondState, int crossoverIndex, int secondCrossoverIndex, Population nextPopulation, int offset) {
+		final int size = population.getNbQueens();
+		final BoardStates states = population.getStates();
+		final BoardStates nextStates = nextPopulation.getStates();
+		final int firstStart = population.getStart(firstState);
+		final int secondStart = population.getStart(secondState);
+		final int start = nextPopulation.getStart(offset);
+
+		// Evaluate the second child, then the first one which is kept unless the second one is better
+		states.copy(secondStart, nextStates, start, crossoverIndex);
+		states.copy(firstStart + crossoverIndex, nextStates, start + crossoverIndex, size - crossoverIndex);
+		final int fY = fitness(nextStates, start);
+
+		states.copy(firstStart, nextStates, start, crossoverIndex);
+		states.copy(secondStart + crossoverIndex, nextStates, start + crossoverIndex, size - crossoverIndex);
+		final int fX = fitness(nextStates, start);
+
+		if (fY < fX) {
+			states.copy(secondStart, nextStates, start, crossoverIndex);
+			states.copy(firstStart + crossoverIndex, nextStates, start + crossoverIndex, size - crossoverIndex);
 		}
 
-		System.arraycopy(population.get(secondStateIndex), 0, x, 0, crossoverIndex);
-		System.arraycopy(population.get(firstStateIndex), crossoverIndex, x, crossoverIndex, size - crossoverIndex);
-
-		fX = fitness(x);
-		if (fX < fMin) {
-			xMin = x.clone();
-			fMin = fX;
-		}
-
-		return xMin;
+		nextPopulation.setFitness(offset, Math.min(fX, fY));
 	}
 
 	/**
-	 * Apply a mutation operation on a random state from a given population.
+	 * Apply a mutation operation on a state.
 	 * 
 	 * @param population
-	 *            The population.
-	 * @return The new generated state.
+	 *            The population of the state.
+	 * @param state
+	 *            The offset of the state.
+	 * @param x
+	 *            The mutated column.
+	 * @param y
+	 *            The new line of the mutated column.
+	 * @param nextPopulation
+	 *            The population where the mutated state is written.
+	 * @param offset
+	 *            The offset of the mutated state into the next population.
 	 */
-	private int[] mutation(List<int[]> population) {
-		final int[] randomState = population.get(RANDOMIZER.nextInt(population.size())).clone();
+	void mutation(Population population, int state, int x, int y, Population nextPopulation, int offset) {
+		final int size = population.getNbQueens();
+		final BoardStates nextStates = nextPopulation.getStates();
+		final int start = nextPopulation.getStart(offset);
 
-		final int x = RANDOMIZER.nextInt(randomState.length);
-		final int y = RANDOMIZER.nextInt(randomState.length);
-		randomState[x] = y;
+		population.getStates().copy(population.getStart(state), nextStates, start, size);
+		nextStates.set(start + x, y);
 
-		return randomState;
+		nextPopulation.setFitness(offset, fitness(nextStates, start));
 	}
 }
\ No newline at end of file
@@ -0,0 +1,291 @@
+package fr.polytech.queenspuzzle.algorithms.geneticsearch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import fr.polytech.queenspuzzle.algorithms.CancellationToken;
+import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.progress.ProgressReporter;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+import fr.polytech.queenspuzzle.randomizers.SplittableRandomizer;
+import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
+
+/**
+ * This class represents an island model genetic search queen puzzle algorithm solver: several populations (islands) evolve at the same time, each one on its own thread with its own randomizer.
+ *
+ * Every X generations, each island sends a copy of its best states to the next island of a ring through a lock-free queue, and replaces its worst states by the better states it has received. All islands stop as soon as one of them finds a solution without conflicts.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class IslandGeneticSearchQueenPuzzleAlgorithmSolver extends QueenPuzzleAlgorithmSolver {
+
+	/**
+	 * The genetic search queen puzzle algorithm solver which evolves each island (only its parameters and operations are used).
+	 */
+	private final GeneticSearchQueenPuzzleAlgorithmSolver geneticSearchQueenPuzzleAlgorithmSolver;
+
+	/**
+	 * The number of islands.
+	 */
+	private final int nbIslands;
+
+	/**
+	 * The number of generations between two migrations.
+	 */
+	private final int migrationInterval;
+
+	/**
+	 * The number of states sent by an island at each migration.
+	 */
+	private final int nbMigrants;
+
+	/**
+	 * The executor service which runs the islands.
+	 */
+	private final ExecutorService executorService;
+
+	/**
+	 * The randomizer used to create the randomizers of the islands.
+	 */
+	private final Randomizer randomizer;
+
+	/**
+	 * Create an island genetic search queen puzzle algorithm solver.
+	 * 
+	 * @param geneticSearchQueenPuzzleAlgorithmSolver
+	 *            The genetic search queen puzzle algorithm solver which evolves each island (only its parameters and operations are used).
+	 * @param nbIslands
+	 *            The number of islands.
+	 * @param migrationInterval
+	 *            The number of generations between two migrations.
+	 * @param nbMigrants
+	 *            The number of states sent by an island at each migration.
+	 * @param executorService
+	 *            The executor service which runs the islands (it should be able to run all of them at the same time).
+	 */
+	public IslandGeneticSearchQueenPuzzleAlgorithmSolver(GeneticSearchQueenPuzzleAlgorithmSolver geneticSearchQueenPuzzleAlgorithmSolver, int nbIslands, int migrationInterval, int nbMigrants, ExecutorService executorService) {
+		this(geneticSearchQueenPuzzleAlgorithmSolver, nbIslands, migrationInterval, nbMigrants, executorService, new SplittableRandomizer());
+	}
+
+	/**
+	 * Create an island genetic search queen puzzle algorithm solver.
+	 * 
+	 * @param geneticSearchQueenPuzzleAlgorithmSolver
+	 *            The genetic search queen puzzle algorithm solver which evolves each island (only its parameters and operations are used).
+	 * @param nbIslands
+	 *            The number of islands.
+	 * @param migrationInterval
+	 *            The number of generations between two migrations.
+	 * @param nbMigrants
+	 *            The number of states sent by an island at each migration.
+	 * @param executorService
+	 *            The executor service which runs the islands (it should be able to run all of them at the same time).
+	 * @param randomizer
+	 *            The randomizer used to create the randomizers of the islands.
+	 */
+	public IslandGeneticSearchQueenPuzzleAlgorithmSolver(GeneticSearchQueenPuzzleAlgorithmSolver geneticSearchQueenPuzzleAlgorithmSolver, int nbIslands, int migrationInterval, int nbMigrants, ExecutorService executorService, Randomizer randomizer) {
+		super();
+
+		if (nbIslands < 1) {
+			throw new IllegalArgumentException("The number of islands must be positive.");
+		}
+
+		if (migrationInterval < 1) {
+			throw new IllegalArgumentException("The migration interval must be positive.");
+		}
+
+		if (nbMigrants < 1) {
+			throw new IllegalArgumentException("The number of migrants must be positive.");
+		}
+
+		this.geneticSearchQueenPuzzleAlgorithmSolver = geneticSearchQueenPuzzleAlgorithmSolver;
+		this.nbIslands = nbIslands;
+		this.migrationInterval = migrationInterval;
+		this.nbMigrants = Math.min(nbMigrants, geneticSearchQueenPuzzleAlgorithmSolver.getPopulationSize());
+		this.executorService = executorService;
+		this.randomizer = randomizer;
+	}
+
+	@Override
+	public int fitness(int[] queensState) {
+		return this.geneticSearchQueenPuzzleAlgorithmSolver.fitness(queensState);
+	}
+
+	@Override
+	protected AdvancedSolution solve(int[] initialState, CancellationToken cancellationToken, ProgressReporter progressReporter) {
+		final CancellationToken stopToken = new CancellationToken();
+		final LongAdder nbEvaluations = new LongAdder();
+
+		// The island i sends its migrants to the island i + 1
+		final List<Queue<Population>> migrations = new ArrayList<Queue<Population>>(this.nbIslands);
+		for (int island = 0; island < this.nbIslands; island++) {
+			migrations.add(new ConcurrentLinkedQueue<Population>());
+		}
+
+		final List<Future<AdvancedSolution>> runs = new ArrayList<Future<AdvancedSolution>>(this.nbIslands);
+		for (int island = 0; island < this.nbIslands; island++) {
+			final Randomizer islandRandomizer = this.randomizer.split();
+			final Queue<Population> immigrants = migrations.get(island);
+			final Queue<Population> emigrants = migrations.get((island + 1) % this.nbIslands);
+
+			runs.add(this.executorService.submit(() -> evolve(initialState.length, islandRandomizer, immigrants, emigrants, stopToken, cancellationToken, nbEvaluations)));
+		}
+
+		int[] xMin = null;
+		int fMin = Integer.MAX_VALUE;
+		int nbGenerations = 0;
+		long nbIslandGenerations = 0;
+		boolean completed = true;
+		try {
+			AdvancedSolution solution;
+			for (Future<AdvancedSolution> run : runs) {
+				solution = run.get();
+				if (solution.getFitness() < fMin) {
+					xMin = solution.getState();
+					fMin = solution.getFitness();
+				}
+
+				nbGenerations = Math.max(nbGenerations, solution.getNbIterations());
+				nbIslandGenerations += solution.getNbIterations();
+				completed &= solution.isCompleted();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("The islands have been interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("An island has failed.", e.getCause());
+		} finally {
+			stopToken.cancel();
+		}
+
+		// The islands evolve at about the same pace, so the evaluations of the progress events are estimated from the number of generations of the longest run
+		progressReporter.setNbEvaluationsPerIteration((long) this.nbIslands * this.geneticSearchQueenPuzzleAlgorithmSolver.getNbNewStates());
+		progressReporter.setNbEvaluations(nbEvaluations.sum());
+		progressReporter.setNbGenerations(nbIslandGenerations);
+
+		return new AdvancedSolution(xMin, fMin, nbGenerations, fMin == 0 || completed);
+	}
+
+	/**
+	 * Evolve an island.
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param randomizer
+	 *            The randomizer of the island.
+	 * @param immigrants
+	 *            The queue of the states sent to this island.
+	 * @param emigrants
+	 *            The queue of the states sent by this island.
+	 * @param stopToken
+	 *            The token cancelled when an island finds a solution without conflicts.
+	 * @param cancellationToken
+	 *            The cancellation token of the run.
+	 * @param nbEvaluations
+	 *            The number of fitness evaluations of all islands, increased at the end of the island.
+	 * @return The best solution of the island, whose number of iterations is its number of generations.
+	 */
+	private AdvancedSolution evolve(int nbQueens, Randomizer randomizer, Queue<Population> immigrants, Queue<Population> emigrants, CancellationToken stopToken, CancellationToken cancellationToken, LongAdder nbEvaluations) {
+		final GeneticSearchQueenPuzzleAlgorithmSolver solver = this.geneticSearchQueenPuzzleAlgorithmSolver;
+		final int nbGenerations = solver.getNbGenerations();
+
+		final PopulationPool populationPool = solver.generateInitialPopulation(solver.getPopulationSize(), nbQueens, randomizer);
+		final long[] sortKeys = new long[solver.getPopulationSize()];
+		final int[] xMin = new int[nbQueens];
+		int fMin = getBestSolution(populationPool.getCurrentPopulation(), xMin, Integer.MAX_VALUE);
+
+		long nbIslandEvaluations = solver.getPopulationSize();
+		int currentGeneration;
+		for (currentGeneration = 0; currentGeneration < nbGenerations && fMin != 0 && !stopToken.isCancelled() && !cancellationToken.isCancelled(); currentGeneration++) {
+			nbIslandEvaluations += solver.nextGeneration(populationPool, randomizer);
+
+			if ((currentGeneration + 1) % this.migrationInterval == 0) {
+				migrate(populationPool.getCurrentPopulation(), sortKeys, immigrants, emigrants);
+			}
+
+			fMin = getBestSolution(populationPool.getCurrentPopulation(), xMin, fMin);
+		}
+
+		if (fMin == 0) {
+			stopToken.cancel();
+		}
+
+		nbEvaluations.add(nbIslandEvaluations);
+		return new AdvancedSolution(xMin, fMin, currentGeneration, fMin == 0 || currentGeneration >= nbGenerations);
+	}
+
+	/**
+	 * Send the best states of a population to the next island, then replace its worst states by the better states received from the previous island.
+	 * 
+	 * @param population
+	 *            The population.
+	 * @param sortKeys
+	 *            The array used to sort the states.
+	 * @param immigrants
+	 *            The queue of the states sent to this island.
+	 * @param emigrants
+	 *            The queue of the states sent by this island.
+	 */
+	private void migrate(Population population, long[] sortKeys, Queue<Population> immigrants, Queue<Population> emigrants) {
+		// The offset in the low bits keeps the order of the states with the same fitness value
+		final int populationSize = population.size();
+		for (int index = 0; index < populationSize; index++) {
+			sortKeys[index] = ((long) population.getFitness(index) << 32) | index;
+		}
+
+		Arrays.sort(sortKeys, 0, populationSize);
+
+		final Population migrants = new Population(this.nbMigrants, population.getNbQueens());
+		for (int index = 0; index < Math.min(this.nbMigrants, populationSize); index++) {
+			migrants.add(population, (int) sortKeys[index]);
+		}
+
+		emigrants.offer(migrants);
+
+		// The received states replace the worst states, from the worst one
+		int worstState = populationSize - 1;
+		Population received;
+		while ((received = immigrants.poll()) != null) {
+			for (int index = 0; index < received.size() && worstState >= 0; index++) {
+				if (received.getFitness(index) < population.getFitness((int) sortKeys[worstState])) {
+					population.set((int) sortKeys[worstState--], received, index);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the best solution from a given population.
+	 * 
+	 * @param population
+	 *            The population.
+	 * @param xMin
+	 *            The current best state which will be overriden or not.
+	 * @param fMin
+	 *            The fitness value of the current best state.
+	 * @return The fitness value of the best state.
+	 */
+	private static int getBestSolution(Population population, int[] xMin, int fMin) {
+		int bestState = -1;
+		for (int index = 0; index < population.size(); index++) {
+			if (population.getFitness(index) < fMin) {
+				bestState = index;
+				fMin = population.getFitness(index);
+			}
+		}
+
+		if (bestState >= 0) {
+			population.copyState(bestState, xMin);
+		}
+
+		return fMin;
+	}
+}
\ No newline at end of file
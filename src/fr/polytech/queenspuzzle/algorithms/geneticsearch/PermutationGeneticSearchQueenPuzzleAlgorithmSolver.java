@@ -0,0 +1,243 @@
+package fr.polytech.queenspuzzle.algorithms.geneticsearch;
+
+import fr.polytech.queenspuzzle.algorithms.BoardStates;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+import fr.polytech.queenspuzzle.randomizers.SplittableRandomizer;
+
+/**
+ * This class represents a genetic search queen puzzle algorithm solver whose states are always permutations (each line is used by one queen).
+ *
+ * The search space is reduced from n^n to n! states: the initial states are shuffled, the crossover is an order crossover (OX) between two random indexes and the mutation switches two columns. As lines are never shared, the fitness value only counts the conflicts on the diagonals, in O(n) with counters.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class PermutationGeneticSearchQueenPuzzleAlgorithmSolver extends GeneticSearchQueenPuzzleAlgorithmSolver {
+
+	/**
+	 * The working array of each thread (diagonal counters, then used lines).
+	 */
+	private final ThreadLocal<int[]> workingArrays;
+
+	/**
+	 * Create a permutation genetic search queen puzzle algorithm solver.
+	 * 
+	 * @param nbGenerations
+	 *            The number of generations.
+	 * @param crossoverAcceptanceProbability
+	 *            The crossover acceptance probability.
+	 * @param populationSize
+	 *            The population size.
+	 * @param nbBestStates
+	 *            The number of best states to get during the reproduction process.
+	 */
+	public PermutationGeneticSearchQueenPuzzleAlgorithmSolver(int nbGenerations, double crossoverAcceptanceProbability, int populationSize, int nbBestStates) {
+		this(nbGenerations, crossoverAcceptanceProbability, populationSize, nbBestStates, new SplittableRandomizer());
+	}
+
+	/**
+	 * Create a permutation genetic search queen puzzle algorithm solver.
+	 * 
+	 * @param nbGenerations
+	 *            The number of generations.
+	 * @param crossoverAcceptanceProbability
+	 *            The crossover acceptance probability.
+	 * @param populationSize
+	 *            The population size.
+	 * @param nbBestStates
+	 *            The number of best states to get during the reproduction process.
+	 * @param randomizer
+	 *            The randomizer.
+	 */
+	public PermutationGeneticSearchQueenPuzzleAlgorithmSolver(int nbGenerations, double crossoverAcceptanceProbability, int populationSize, int nbBestStates, Randomizer randomizer) {
+		super(nbGenerations, crossoverAcceptanceProbability, populationSize, nbBestStates, randomizer);
+		this.workingArrays = ThreadLocal.withInitial(() -> new int[0]);
+	}
+
+	@Override
+	int fitness(BoardStates states, int start) {
+		final int nbQueens = states.getNbQueens();
+		final int[] diagonals = getWorkingArray(nbQueens);
+		final int nbDiagonals = 2 * nbQueens - 1;
+		int fitness = 0;
+
+		// Each queen conflicts with the queens already counted on its diagonals, in both directions
+		int line;
+		for (int column = 0; column < nbQueens; column++) {
+			line = states.get(start + column);
+			fitness += 2 * diagonals[column + line]++;
+			fitness += 2 * diagonals[nbDiagonals + column - line + nbQueens - 1]++;
+		}
+
+		for (int column = 0; column < nbQueens; column++) {
+			line = states.get(start + column);
+			diagonals[column + line] = 0;
+			diagonals[nbDiagonals + column - line + nbQueens - 1] = 0;
+		}
+
+		return fitness;
+	}
+
+	@Override
+	long getEvaluationCost(int nbQueens) {
+		return nbQueens;
+	}
+
+	@Override
+	void randomState(Randomizer randomizer, BoardStates states, int start, int nbQueens) {
+		for (int index = 0; index < nbQueens; index++) {
+			states.set(start + index, index);
+		}
+
+		// Fisher-Yates shuffle
+		for (int index = nbQueens - 1; index > 0; index--) {
+			states.swap(start + index, start + randomizer.nextInt(index + 1));
+		}
+	}
+
+	@Override
+	void drawCrossover(Randomizer randomizer, int nbQueens, int[] positions, int[] values, int index) {
+		positions[index] = randomizer.nextInt(nbQueens);
+		values[index] = randomizer.nextInt(nbQueens);
+	}
+
+	@Override
+	void drawMutation(Randomizer randomizer, int nbQueens, int[] positions, int[] values, int index) {
+		positions[index] = randomizer.nextInt(nbQueens);
+		values[index] = randomizer.nextInt(nbQueens);
+	}
+
+	/**
+	 * Apply an order crossover on two states and keep the best of both children: a child keeps the lines of a parent between both crossover indexes, then takes the other lines in the order of the other parent.
+	 * 
+	 * @param population
+	 *            The population of the parents.
+	 * @param firstState
+	 *            The offset of the first state.
+	 * @param secondState
+	 *            The offset of the second state.
+	 * @param crossoverIndex
+	 *            The first crossover index.
+	 * @param secondCrossoverIndex
+	 *            The second crossover index.
+	 * @param nextPopulation
+	 *            The population where the best child is written.
+	 * @param offset
+	 *            The offset of the best child into the next population.
+	 */
+	@Override
+	void crossover(Population population, int firstState, int secondState, int crossoverIndex, int secondCrossoverIndex, Population nextPopulation, int offset) {
+		final int size = population.getNbQueens();
+		final BoardStates states = population.getStates();
+		final BoardStates nextStates = nextPopulation.getStates();
+		final int firstStart = population.getStart(firstState);
+		final int secondStart = population.getStart(secondState);
+		final int start = nextPopulation.getStart(offset);
+		final int from = Math.min(crossoverIndex, secondCrossoverIndex);
+		final int to = Math.max(crossoverIndex, secondCrossoverIndex);
+
+		// Evaluate the second child, then the first one which is kept unless the second one is better
+		orderCrossover(states, secondStart, firstStart, from, to, size, nextStates, start);
+		final int fY = fitness(nextStates, start);
+
+		orderCrossover(states, firstStart, secondStart, from, to, size, nextStates, start);
+		final int fX = fitness(nextStates, start);
+
+		if (fY < fX) {
+			orderCrossover(states, secondStart, firstStart, from, to, size, nextStates, start);
+		}
+
+		nextPopulation.setFitness(offset, Math.min(fX, fY));
+	}
+
+	/**
+	 * Switch two columns of a state.
+	 * 
+	 * @param population
+	 *            The population of the state.
+	 * @param state
+	 *            The offset of the state.
+	 * @param x
+	 *            The first column.
+	 * @param y
+	 *            The second column.
+	 * @param nextPopulation
+	 *            The population where the mutated state is written.
+	 * @param offset
+	 *            The offset of the mutated state into the next population.
+	 */
+	@Override
+	void mutation(Population population, int state, int x, int y, Population nextPopulation, int offset) {
+		final int size = population.getNbQueens();
+		final BoardStates nextStates = nextPopulation.getStates();
+		final int start = nextPopulation.getStart(offset);
+
+		population.getStates().copy(population.getStart(state), nextStates, start, size);
+		nextStates.swap(start + x, start + y);
+
+		nextPopulation.setFitness(offset, fitness(nextStates, start));
+	}
+
+	/**
+	 * Write the child of an order crossover.
+	 * 
+	 * @param states
+	 *            The states of the parents.
+	 * @param keptStart
+	 *            The offset of the first queen of the parent whose lines between both crossover indexes are kept.
+	 * @param otherStart
+	 *            The offset of the first queen of the parent which gives the order of the other lines.
+	 * @param from
+	 *            The first crossover index (inclusive).
+	 * @param to
+	 *            The second crossover index (inclusive).
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param nextStates
+	 *            The board states where the child is written.
+	 * @param start
+	 *            The offset of the first queen of the child.
+	 */
+	private void orderCrossover(BoardStates states, int keptStart, int otherStart, int from, int to, int nbQueens, BoardStates nextStates, int start) {
+		final int[] usedLines = getWorkingArray(nbQueens);
+		final int usedLinesStart = 2 * (2 * nbQueens - 1);
+
+		int line;
+		for (int column = from; column <= to; column++) {
+			line = states.get(keptStart + column);
+			nextStates.set(start + column, line);
+			usedLines[usedLinesStart + line] = 1;
+		}
+
+		// Fill the other columns from the second crossover index, in the order of the other parent
+		int column = (to + 1) % nbQueens;
+		for (int otherColumn = (to + 1) % nbQueens, nbOtherColumns = 0; nbOtherColumns < nbQueens; otherColumn = (otherColumn + 1) % nbQueens, nbOtherColumns++) {
+			line = states.get(otherStart + otherColumn);
+			if (usedLines[usedLinesStart + line] == 0) {
+				nextStates.set(start + column, line);
+				column = (column + 1) % nbQueens;
+			}
+		}
+
+		for (column = from; column <= to; column++) {
+			usedLines[usedLinesStart + states.get(keptStart + column)] = 0;
+		}
+	}
+
+	/**
+	 * Get the working array of the current thread, whose values are all 0.
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @return The working array.
+	 */
+	private int[] getWorkingArray(int nbQueens) {
+		int[] workingArray = this.workingArrays.get();
+		if (workingArray.length < 2 * (2 * nbQueens - 1) + nbQueens) {
+			workingArray = new int[2 * (2 * nbQueens - 1) + nbQueens];
+			this.workingArrays.set(workingArray);
+		}
+
+		return workingArray;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,166 @@
+package fr.polytech.queenspuzzle.algorithms.geneticsearch;
+
+import fr.polytech.queenspuzzle.algorithms.BoardStates;
+
+/**
+ * This class represents a population of a genetic search, whose states are stored one after the other into compact board states next to their fitness values.
+ *
+ * The population is allocated once with its maximal size and then cleared and refilled at each generation.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+class Population {
+
+	/**
+	 * The number of queens of a state.
+	 */
+	private final int nbQueens;
+
+	/**
+	 * The states (the state of offset i starts at i * number of queens).
+	 */
+	private final BoardStates states;
+
+	/**
+	 * The fitness values of the states.
+	 */
+	private final int[] fitnesses;
+
+	/**
+	 * The number of states.
+	 */
+	private int size;
+
+	/**
+	 * Create an empty population.
+	 * 
+	 * @param capacity
+	 *            The maximal number of states.
+	 * @param nbQueens
+	 *            The number of queens of a state.
+	 */
+	public Population(int capacity, int nbQueens) {
+		this.nbQueens = nbQueens;
+		this.states = BoardStates.create(capacity, nbQueens);
+		this.fitnesses = new int[capacity];
+		this.size = 0;
+	}
+
+	/**
+	 * Remove all the states.
+	 */
+	public void clear() {
+		this.size = 0;
+	}
+
+	/**
+	 * Set the number of states.
+	 * 
+	 * @param size
+	 *            The number of states.
+	 */
+	public void setSize(int size) {
+		this.size = size;
+	}
+
+	/**
+	 * Copy a state of another population at the end of this population.
+	 * 
+	 * @param population
+	 *            The other population.
+	 * @param offset
+	 *            The offset of the state into the other population.
+	 */
+	public void add(Population population, int offset) {
+		set(this.size++, population, offset);
+	}
+
+	/**
+	 * Replace a state by a copy of a state of another population.
+	 * 
+	 * @param offset
+	 *            The offset of the replaced state.
+	 * @param population
+	 *            The other population.
+	 * @param otherOffset
+	 *            The offset of the state into the other population.
+	 */
+	public void set(int offset, Population population, int otherOffset) {
+		population.states.copy(population.getStart(otherOffset), this.states, getStart(offset), this.nbQueens);
+		this.fitnesses[offset] = population.fitnesses[otherOffset];
+	}
+
+	/**
+	 * Copy a state into a given array.
+	 * 
+	 * @param offset
+	 *            The offset of the state.
+	 * @param state
+	 *            The array.
+	 */
+	public void copyState(int offset, int[] state) {
+		this.states.copyTo(getStart(offset), state);
+	}
+
+	/**
+	 * Get the offset of the first queen of a state into the states.
+	 * 
+	 * @param offset
+	 *            The offset of the state.
+	 * @return The offset of the first queen.
+	 */
+	public int getStart(int offset) {
+		return offset * this.nbQueens;
+	}
+
+	/**
+	 * Get the states (the state of offset i starts at i * number of queens).
+	 * 
+	 * @return The states.
+	 */
+	public BoardStates getStates() {
+		return this.states;
+	}
+
+	/**
+	 * Get the fitness value of a state.
+	 * 
+	 * @param offset
+	 *            The offset of the state.
+	 * @return The fitness value.
+	 */
+	public int getFitness(int offset) {
+		return this.fitnesses[offset];
+	}
+
+	/**
+	 * Set the fitness value of a state.
+	 * 
+	 * @param offset
+	 *            The offset of the state.
+	 * @param fitness
+	 *            The fitness value.
+	 */
+	public void setFitness(int offset, int fitness) {
+		this.fitnesses[offset] = fitness;
+	}
+
+	/**
+	 * Get the number of queens of a state.
+	 * 
+	 * @return The number of queens.
+	 */
+	public int getNbQueens() {
+		return this.nbQueens;
+	}
+
+	/**
+	 * Get the number of states.
+	 * 
+	 * @return The number of states.
+	 */
+	public int size() {
+		return this.size;
+	}
+}
\ No newline at end of file
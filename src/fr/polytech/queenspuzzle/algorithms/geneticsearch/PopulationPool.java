@@ -0,0 +1,153 @@
+package fr.polytech.queenspuzzle.algorithms.geneticsearch;
+
+/**
+ * This class represents the memory of a genetic search run: the current population, the next one which is built from it, and the working arrays of a generation.
+ *
+ * Everything is allocated once, so a generation only writes into existing arrays and the populations are switched at its end.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+class PopulationPool {
+
+	/**
+	 * The current population.
+	 */
+	private Population currentPopulation;
+
+	/**
+	 * The next population.
+	 */
+	private Population nextPopulation;
+
+	/**
+	 * The offsets of the states selected by the roulette wheel reproduction.
+	 */
+	private final int[] selectedStates;
+
+	/**
+	 * The sort keys of the best solutions reproduction (fitness value, then offset).
+	 */
+	private final long[] sortKeys;
+
+	/**
+	 * The first parents of the new states.
+	 */
+	private final int[] firstParents;
+
+	/**
+	 * The second parents of the new states.
+	 */
+	private final int[] secondParents;
+
+	/**
+	 * The crossover indexes or mutated columns of the new states.
+	 */
+	private final int[] positions;
+
+	/**
+	 * The new lines of the mutated columns of the new states.
+	 */
+	private final int[] values;
+
+	/**
+	 * Create a population pool.
+	 * 
+	 * @param capacity
+	 *            The maximal number of states of a population.
+	 * @param nbQueens
+	 *            The number of queens of a state.
+	 */
+	public PopulationPool(int capacity, int nbQueens) {
+		this.currentPopulation = new Population(capacity, nbQueens);
+		this.nextPopulation = new Population(capacity, nbQueens);
+		this.selectedStates = new int[capacity];
+		this.sortKeys = new long[capacity];
+		this.firstParents = new int[capacity];
+		this.secondParents = new int[capacity];
+		this.positions = new int[capacity];
+		this.values = new int[capacity];
+	}
+
+	/**
+	 * Make the next population the current one, the old current population being reused as the next one.
+	 */
+	public void switchPopulations() {
+		final Population population = this.currentPopulation;
+		this.currentPopulation = this.nextPopulation;
+		this.nextPopulation = population;
+		this.nextPopulation.clear();
+	}
+
+	/**
+	 * Get the current population.
+	 * 
+	 * @return The current population.
+	 */
+	public Population getCurrentPopulation() {
+		return this.currentPopulation;
+	}
+
+	/**
+	 * Get the next population.
+	 * 
+	 * @return The next population.
+	 */
+	public Population getNextPopulation() {
+		return this.nextPopulation;
+	}
+
+	/**
+	 * Get the offsets of the states selected by the roulette wheel reproduction.
+	 * 
+	 * @return The offsets.
+	 */
+	public int[] getSelectedStates() {
+		return this.selectedStates;
+	}
+
+	/**
+	 * Get the sort keys of the best solutions reproduction (fitness value, then offset).
+	 * 
+	 * @return The sort keys.
+	 */
+	public long[] getSortKeys() {
+		return this.sortKeys;
+	}
+
+	/**
+	 * Get the first parents of the new states.
+	 * 
+	 * @return The first parents.
+	 */
+	public int[] getFirstParents() {
+		return this.firstParents;
+	}
+
+	/**
+	 * Get the second parents of the new states.
+	 * 
+	 * @return The second parents.
+	 */
+	public int[] getSecondParents() {
+		return this.secondParents;
+	}
+
+	/**
+	 * Get the crossover indexes or mutated columns of the new states.
+	 * 
+	 * @return The positions.
+	 */
+	public int[] getPositions() {
+		return this.positions;
+	}
+
+	/**
+	 * Get the new lines of the mutated columns of the new states.
+	 * 
+	 * @return The new lines.
+	 */
+	public int[] getValues() {
+		return this.values;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,178 @@
+package fr.polytech.queenspuzzle.algorithms.minconflictssearch;
+
+import fr.polytech.queenspuzzle.algorithms.CancellationToken;
+import fr.polytech.queenspuzzle.algorithms.ConflictedQueenSet;
+import fr.polytech.queenspuzzle.algorithms.DiagonalConflictBoard;
+import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.progress.ProgressReporter;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+import fr.polytech.queenspuzzle.randomizers.SplittableRandomizer;
+import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
+
+/**
+ * This class represents a min-conflicts search queen puzzle algorithm solver.
+ *
+ * At each iteration, a random conflicted queen is switched with the best of some random columns. The diagonal counters and the set of conflicted queens make an iteration O(number of samples) and the memory O(n), so it scales to millions of queens.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class MinConflictsSearchQueenPuzzleAlgorithmSolver extends QueenPuzzleAlgorithmSolver {
+
+	/**
+	 * The number of maximal allowed iterations.
+	 */
+	private final int nbMaxIterations;
+
+	/**
+	 * The number of random columns evaluated for each conflicted queen.
+	 */
+	private final int nbSamples;
+
+	/**
+	 * The probability to accept the best sampled switch when it increases the fitness value.
+	 */
+	private final double noiseProbability;
+
+	/**
+	 * The randomizer.
+	 */
+	private final Randomizer randomizer;
+
+	/**
+	 * Create a min-conflicts search queen puzzle algorithm solver.
+	 *
+	 * @param nbMaxIterations
+	 *            The number of maximal allowed iterations.
+	 * @param nbSamples
+	 *            The number of random columns evaluated for each conflicted queen.
+	 * @param noiseProbability
+	 *            The probability to accept the best sampled switch when it increases the fitness value.
+	 */
+	public MinConflictsSearchQueenPuzzleAlgorithmSolver(int nbMaxIterations, int nbSamples, double noiseProbability) {
+		this(nbMaxIterations, nbSamples, noiseProbability, new SplittableRandomizer());
+	}
+
+	/**
+	 * Create a min-conflicts search queen puzzle algorithm solver.
+	 *
+	 * @param nbMaxIterations
+	 *            The number of maximal allowed iterations.
+	 * @param nbSamples
+	 *            The number of random columns evaluated for each conflicted queen.
+	 * @param noiseProbability
+	 *            The probability to accept the best sampled switch when it increases the fitness value.
+	 * @param randomizer
+	 *            The randomizer.
+	 */
+	public MinConflictsSearchQueenPuzzleAlgorithmSolver(int nbMaxIterations, int nbSamples, double noiseProbability, Randomizer randomizer) {
+		super();
+		this.nbMaxIterations = nbMaxIterations;
+		this.nbSamples = nbSamples;
+		this.noiseProbability = noiseProbability;
+		this.randomizer = randomizer;
+	}
+
+	@Override
+	protected AdvancedSolution solve(int[] initialState, CancellationToken cancellationToken, ProgressReporter progressReporter) {
+		final int nbQueens = initialState.length;
+		final int[] x = initialState.clone();
+		final DiagonalConflictBoard board = createBoard(x);
+
+		// The best state is only saved when leaving it for a worse one
+		int[] xMin = null;
+		long fMin = board.getExactFitness();
+
+		final ConflictedQueenSet conflictedQueens = new ConflictedQueenSet(nbQueens);
+		conflictedQueens.rebuild(board);
+
+		int queen;
+		int column;
+		int delta;
+		int bestColumn;
+		int bestDelta;
+
+		progressReporter.setNbEvaluationsPerIteration(this.nbSamples);
+
+		long nbAcceptedMoves = 0;
+		int currentIteration = 0;
+		while (board.getFitness() != 0 && currentIteration < this.nbMaxIterations && !cancellationToken.isCancelled(currentIteration)) {
+			// Pick a conflicted queen (the set may contain queens whose conflicts have been solved since)
+			if (conflictedQueens.isEmpty()) {
+				conflictedQueens.rebuild(board);
+			}
+
+			queen = conflictedQueens.random(this.randomizer);
+			if (!board.isAttacked(queen)) {
+				conflictedQueens.remove(queen);
+				continue;
+			}
+
+			// Evaluate some random columns
+			bestColumn = -1;
+			bestDelta = Integer.MAX_VALUE;
+			for (int currentSample = 0; currentSample < this.nbSamples; currentSample++) {
+				column = this.randomizer.nextInt(nbQueens - 1);
+				if (column >= queen) {
+					column++;
+				}
+
+				delta = board.deltaForSwap(queen, column);
+				if (delta < bestDelta) {
+					bestColumn = column;
+					bestDelta = delta;
+				}
+			}
+
+			// Apply the best switch, a worse one only with the noise probability
+			if (bestColumn >= 0 && (bestDelta <= 0 || this.randomizer.nextDouble() < this.noiseProbability)) {
+				if (bestDelta > 0 && board.getExactFitness() == fMin) {
+					if (xMin == null) {
+						xMin = new int[nbQueens];
+					}
+					System.arraycopy(x, 0, xMin, 0, nbQueens);
+				}
+
+				board.swap(queen, bestColumn);
+				nbAcceptedMoves++;
+
+				if (board.getExactFitness() < fMin) {
+					fMin = board.getExactFitness();
+				}
+
+				updateConflictedQueen(board, conflictedQueens, queen);
+				updateConflictedQueen(board, conflictedQueens, bestColumn);
+			}
+
+			currentIteration++;
+			progressReporter.report(currentIteration, board.getFitness(), DiagonalConflictBoard.saturate(fMin));
+		}
+
+		// The best sampled switch is proposed at each iteration (the iterations of the solved queens picked from the set aren't counted)
+		progressReporter.setNbEvaluations((long) currentIteration * this.nbSamples);
+		progressReporter.setNbMoves(currentIteration, nbAcceptedMoves);
+
+		final boolean completed = board.getFitness() == 0 || currentIteration >= this.nbMaxIterations;
+
+		// The current state is returned when the best one has never been left
+		return new AdvancedSolution(xMin == null || board.getExactFitness() == fMin ? x : xMin, DiagonalConflictBoard.saturate(fMin), currentIteration, completed);
+	}
+
+	/**
+	 * Add or remove a queen from the conflicted queens according to the board.
+	 *
+	 * @param board
+	 *            The board.
+	 * @param conflictedQueens
+	 *            The conflicted queens.
+	 * @param column
+	 *            The column of the queen.
+	 */
+	private static void updateConflictedQueen(DiagonalConflictBoard board, ConflictedQueenSet conflictedQueens, int column) {
+		if (board.isAttacked(column)) {
+			conflictedQueens.add(column);
+		} else {
+			conflictedQueens.remove(column);
+		}
+	}
+}
\ No newline at end of file
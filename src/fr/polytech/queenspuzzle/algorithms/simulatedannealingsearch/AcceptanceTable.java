@@ -0,0 +1,82 @@
+package fr.polytech.queenspuzzle.algorithms.simulatedannealingsearch;
+
+import java.util.Arrays;
+
+/**
+ * This class represents a table of the acceptance probabilities exp(-delta / temperature) of the current temperature, indexed by delta.
+ *
+ * The probabilities are computed lazily, once per delta and temperature step, so moving to the next temperature costs O(1).
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+class AcceptanceTable {
+
+	/**
+	 * The initial number of deltas of the table.
+	 */
+	public static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * The acceptance probabilities.
+	 */
+	private double[] probabilities;
+
+	/**
+	 * The temperature step of each acceptance probability.
+	 */
+	private int[] temperatureSteps;
+
+	/**
+	 * The current temperature.
+	 */
+	private double temperature;
+
+	/**
+	 * The current temperature step.
+	 */
+	private int temperatureStep;
+
+	/**
+	 * Create an acceptance table.
+	 */
+	public AcceptanceTable() {
+		this.probabilities = new double[INITIAL_CAPACITY];
+		this.temperatureSteps = new int[INITIAL_CAPACITY];
+		this.temperature = 0;
+		this.temperatureStep = 0;
+	}
+
+	/**
+	 * Move to a new temperature.
+	 * 
+	 * @param temperature
+	 *            The new temperature.
+	 */
+	public void setTemperature(double temperature) {
+		this.temperature = temperature;
+		this.temperatureStep++;
+	}
+
+	/**
+	 * Get the acceptance probability of a move which increases the fitness value.
+	 * 
+	 * @param delta
+	 *            The increase of the fitness value (strictly positive).
+	 * @return The acceptance probability.
+	 */
+	public double getProbability(int delta) {
+		if (delta >= this.probabilities.length) {
+			final int capacity = Math.max(delta + 1, 2 * this.probabilities.length);
+			this.probabilities = Arrays.copyOf(this.probabilities, capacity);
+			this.temperatureSteps = Arrays.copyOf(this.temperatureSteps, capacity);
+		}
+
+		if (this.temperatureSteps[delta] != this.temperatureStep) {
+			this.probabilities[delta] = Math.exp(-delta / this.temperature);
+			this.temperatureSteps[delta] = this.temperatureStep;
+		}
+
+		return this.probabilities[delta];
+	}
+}
\ No newline at end of file
@@ -0,0 +1,229 @@
+package fr.polytech.queenspuzzle.algorithms.simulatedannealingsearch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import fr.polytech.queenspuzzle.algorithms.CancellationToken;
+import fr.polytech.queenspuzzle.algorithms.DiagonalConflictBoard;
+import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.progress.ProgressEvent;
+import fr.polytech.queenspuzzle.progress.ProgressReporter;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+import fr.polytech.queenspuzzle.randomizers.SplittableRandomizer;
+import fr.polytech.queenspuzzle.solutions.ParallelTemperingSolution;
+
+/**
+ * This class represents a parallel tempering (replica exchange) queen puzzle algorithm solver.
+ *
+ * Several replicas of the state are annealed at the same time at fixed temperatures (one thread per replica). After each sweep of moves, the replicas of neighboring temperatures are exchanged according to the Metropolis criterion, so good states go down the temperature ladder while bad ones go up to escape their local minima. The acceptance rate of each pair of neighboring temperatures is returned, so the ladder can be adjusted (a rate close to 0 means the temperatures are too far apart).
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class ParallelTemperingQueenPuzzleAlgorithmSolver extends QueenPuzzleAlgorithmSolver {
+
+	/**
+	 * The temperatures of the replicas (in increasing order).
+	 */
+	private final double[] temperatures;
+
+	/**
+	 * The number of moves of each replica between two exchanges.
+	 */
+	private final int nbMovesPerSweep;
+
+	/**
+	 * The number of maximal sweeps.
+	 */
+	private final int nbMaxSweeps;
+
+	/**
+	 * The executor service which runs the replicas.
+	 */
+	private final ExecutorService executorService;
+
+	/**
+	 * The randomizer.
+	 */
+	private final Randomizer randomizer;
+
+	/**
+	 * Create a parallel tempering queen puzzle algorithm solver whose temperatures follow a geometric progression.
+	 * 
+	 * @param minTemperature
+	 *            The lowest temperature.
+	 * @param maxTemperature
+	 *            The highest temperature.
+	 * @param nbReplicas
+	 *            The number of replicas.
+	 * @param nbMovesPerSweep
+	 *            The number of moves of each replica between two exchanges.
+	 * @param nbMaxSweeps
+	 *            The number of maximal sweeps.
+	 * @param executorService
+	 *            The executor service which runs the replicas.
+	 */
+	public ParallelTemperingQueenPuzzleAlgorithmSolver(double minTemperature, double maxTemperature, int nbReplicas, int nbMovesPerSweep, int nbMaxSweeps, ExecutorService executorService) {
+		this(geometricTemperatures(minTemperature, maxTemperature, nbReplicas), nbMovesPerSweep, nbMaxSweeps, executorService, new SplittableRandomizer());
+	}
+
+	/**
+	 * Create a parallel tempering queen puzzle algorithm solver.
+	 * 
+	 * @param temperatures
+	 *            The temperatures of the replicas (in increasing order).
+	 * @param nbMovesPerSweep
+	 *            The number of moves of each replica between two exchanges.
+	 * @param nbMaxSweeps
+	 *            The number of maximal sweeps.
+	 * @param executorService
+	 *            The executor service which runs the replicas.
+	 * @param randomizer
+	 *            The randomizer.
+	 */
+	public ParallelTemperingQueenPuzzleAlgorithmSolver(double[] temperatures, int nbMovesPerSweep, int nbMaxSweeps, ExecutorService executorService, Randomizer randomizer) {
+		super();
+		if (temperatures.length == 0) {
+			throw new IllegalArgumentException("At least one temperature is required.");
+		}
+
+		this.temperatures = temperatures.clone();
+		this.nbMovesPerSweep = nbMovesPerSweep;
+		this.nbMaxSweeps = nbMaxSweeps;
+		this.executorService = executorService;
+		this.randomizer = randomizer;
+	}
+
+	@Override
+	protected ParallelTemperingSolution solve(int[] initialState, CancellationToken cancellationToken, ProgressReporter progressReporter) {
+		final int nbReplicas = this.temperatures.length;
+
+		// The replica at the offset i is annealed at the temperature i
+		final Replica[] replicas = new Replica[nbReplicas];
+		for (int offset = 0; offset < nbReplicas; offset++) {
+			replicas[offset] = new Replica(createBoard(initialState.clone()), this.randomizer.split());
+		}
+
+		final long[] nbSwapAttempts = new long[Math.max(nbReplicas - 1, 0)];
+		final long[] nbAcceptedSwaps = new long[nbSwapAttempts.length];
+
+		final List<Callable<Void>> sweeps = new ArrayList<Callable<Void>>(nbReplicas);
+		for (int offset = 0; offset < nbReplicas; offset++) {
+			final int replicaOffset = offset;
+			sweeps.add(() -> {
+				replicas[replicaOffset].anneal(this.temperatures[replicaOffset], this.nbMovesPerSweep, cancellationToken);
+				return null;
+			});
+		}
+
+		Replica bestReplica = getBestReplica(replicas);
+		progressReporter.setNbEvaluationsPerIteration((long) nbReplicas * this.nbMovesPerSweep);
+
+		int currentSweep;
+		for (currentSweep = 0; currentSweep < this.nbMaxSweeps && bestReplica.getBestFitness() != 0 && !cancellationToken.isCancelled(); currentSweep++) {
+			runSweeps(sweeps);
+
+			// Exchange the even pairs, then the odd ones at the next sweep
+			double probability;
+			Replica replica;
+			for (int offset = currentSweep % 2; offset < nbReplicas - 1; offset += 2) {
+				probability = Math.exp((1 / this.temperatures[offset] - 1 / this.temperatures[offset + 1]) * (replicas[offset].getFitness() - replicas[offset + 1].getFitness()));
+
+				nbSwapAttempts[offset]++;
+				if (probability >= 1 || this.randomizer.nextDouble() < probability) {
+					nbAcceptedSwaps[offset]++;
+
+					replica = replicas[offset];
+					replicas[offset] = replicas[offset + 1];
+					replicas[offset + 1] = replica;
+				}
+			}
+
+			bestReplica = getBestReplica(replicas);
+			progressReporter.report(currentSweep + 1, DiagonalConflictBoard.saturate(replicas[0].getFitness()), bestReplica.getBestFitness(), this.temperatures[0], ProgressEvent.NO_TABU_SIZE);
+		}
+
+		final double[] swapAcceptanceRates = new double[nbSwapAttempts.length];
+		for (int offset = 0; offset < swapAcceptanceRates.length; offset++) {
+			swapAcceptanceRates[offset] = nbSwapAttempts[offset] == 0 ? 0 : (double) nbAcceptedSwaps[offset] / nbSwapAttempts[offset];
+		}
+
+		long nbProposedMoves = 0;
+		long nbAcceptedMoves = 0;
+		for (Replica replica : replicas) {
+			nbProposedMoves += replica.getNbProposedMoves();
+			nbAcceptedMoves += replica.getNbAcceptedMoves();
+		}
+
+		progressReporter.setNbEvaluations(nbProposedMoves);
+		progressReporter.setNbMoves(nbProposedMoves, nbAcceptedMoves);
+
+		final boolean completed = bestReplica.getBestFitness() == 0 || currentSweep >= this.nbMaxSweeps;
+		return new ParallelTemperingSolution(bestReplica.getBestState(), bestReplica.getBestFitness(), currentSweep, completed, this.temperatures.clone(), swapAcceptanceRates);
+	}
+
+	/**
+	 * Run a sweep of all replicas at the same time.
+	 * 
+	 * @param sweeps
+	 *            The sweeps of the replicas.
+	 */
+	private void runSweeps(List<Callable<Void>> sweeps) {
+		try {
+			for (Future<Void> sweep : this.executorService.invokeAll(sweeps)) {
+				sweep.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("The replicas have been interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("A replica has failed.", e.getCause());
+		}
+	}
+
+	/**
+	 * Get the replica which has met the best state.
+	 * 
+	 * @param replicas
+	 *            The replicas.
+	 * @return The best replica.
+	 */
+	private static Replica getBestReplica(Replica[] replicas) {
+		Replica bestReplica = replicas[0];
+		for (Replica replica : replicas) {
+			if (replica.getBestFitness() < bestReplica.getBestFitness()) {
+				bestReplica = replica;
+			}
+		}
+
+		return bestReplica;
+	}
+
+	/**
+	 * Compute temperatures which follow a geometric progression.
+	 * 
+	 * @param minTemperature
+	 *            The lowest temperature.
+	 * @param maxTemperature
+	 *            The highest temperature.
+	 * @param nbTemperatures
+	 *            The number of temperatures.
+	 * @return The temperatures (in increasing order).
+	 */
+	public static double[] geometricTemperatures(double minTemperature, double maxTemperature, int nbTemperatures) {
+		final double[] temperatures = new double[nbTemperatures];
+		final double ratio = nbTemperatures > 1 ? Math.pow(maxTemperature / minTemperature, 1.0 / (nbTemperatures - 1)) : 1;
+
+		double temperature = minTemperature;
+		for (int offset = 0; offset < nbTemperatures; offset++) {
+			temperatures[offset] = temperature;
+			temperature *= ratio;
+		}
+
+		return temperatures;
+	}
+}
\ No newline at end of file
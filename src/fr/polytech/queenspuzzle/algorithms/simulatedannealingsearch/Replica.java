@@ -0,0 +1,148 @@
+package fr.polytech.queenspuzzle.algorithms.simulatedannealingsearch;
+
+import fr.polytech.queenspuzzle.algorithms.CancellationToken;
+import fr.polytech.queenspuzzle.algorithms.DiagonalConflictBoard;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+
+/**
+ * This class represents a replica of a parallel tempering search: a Markov chain with its own state, randomizer and best state met.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+class Replica {
+
+	/**
+	 * The board of the current state.
+	 */
+	private final DiagonalConflictBoard board;
+
+	/**
+	 * The randomizer.
+	 */
+	private final Randomizer randomizer;
+
+	/**
+	 * The best state met.
+	 */
+	private final int[] xMin;
+
+	/**
+	 * The fitness value of the best state met.
+	 */
+	private int fMin;
+
+	/**
+	 * The number of proposed moves.
+	 */
+	private long nbProposedMoves;
+
+	/**
+	 * The number of accepted moves.
+	 */
+	private long nbAcceptedMoves;
+
+	/**
+	 * Create a replica.
+	 * 
+	 * @param board
+	 *            The board of the initial state.
+	 * @param randomizer
+	 *            The randomizer.
+	 */
+	public Replica(DiagonalConflictBoard board, Randomizer randomizer) {
+		this.board = board;
+		this.randomizer = randomizer;
+		this.xMin = board.getState().clone();
+		this.fMin = board.getFitness();
+	}
+
+	/**
+	 * Apply some Metropolis moves (switches of two columns) at a given temperature.
+	 * 
+	 * @param temperature
+	 *            The temperature.
+	 * @param nbMoves
+	 *            The number of moves.
+	 * @param cancellationToken
+	 *            The cancellation token.
+	 */
+	public void anneal(double temperature, int nbMoves, CancellationToken cancellationToken) {
+		final int nbQueens = this.board.getNbQueens();
+		if (nbQueens < 2) {
+			return;
+		}
+
+		int x;
+		int y;
+		int delta;
+		int currentMove;
+		long nbAcceptedMoves = 0;
+		for (currentMove = 0; currentMove < nbMoves && this.fMin != 0 && !cancellationToken.isCancelled(currentMove); currentMove++) {
+			x = this.randomizer.nextInt(nbQueens);
+			y = this.randomizer.nextInt(nbQueens - 1);
+			if (y >= x) {
+				y++;
+			}
+
+			delta = this.board.deltaForSwap(x, y);
+			if (delta <= 0 || this.randomizer.nextDouble() <= Math.exp(-delta / temperature)) {
+				this.board.swap(x, y);
+				nbAcceptedMoves++;
+
+				if (this.board.getFitness() < this.fMin) {
+					this.fMin = this.board.getFitness();
+					System.arraycopy(this.board.getState(), 0, this.xMin, 0, nbQueens);
+				}
+			}
+		}
+
+		this.nbProposedMoves += currentMove;
+		this.nbAcceptedMoves += nbAcceptedMoves;
+	}
+
+	/**
+	 * Get the fitness value of the current state.
+	 * 
+	 * @return The fitness value.
+	 */
+	public long getFitness() {
+		return this.board.getExactFitness();
+	}
+
+	/**
+	 * Get the best state met.
+	 * 
+	 * @return The best state.
+	 */
+	public int[] getBestState() {
+		return this.xMin;
+	}
+
+	/**
+	 * Get the fitness value of the best state met.
+	 * 
+	 * @return The fitness value.
+	 */
+	public int getBestFitness() {
+		return this.fMin;
+	}
+
+	/**
+	 * Get the number of proposed moves.
+	 * 
+	 * @return The number of proposed moves.
+	 */
+	public long getNbProposedMoves() {
+		return this.nbProposedMoves;
+	}
+
+	/**
+	 * Get the number of accepted moves.
+	 * 
+	 * @return The number of accepted moves.
+	 */
+	public long getNbAcceptedMoves() {
+		return this.nbAcceptedMoves;
+	}
+}
\ No newline at end of file
@@ -1,10 +1,13 @@
 package fr.polytech.queenspuzzle.algorithms.simulatedannealingsearch;
 
-import java.security.SecureRandom;
-
+import fr.polytech.queenspuzzle.algorithms.CancellationToken;
+import fr.polytech.queenspuzzle.algorithms.DiagonalConflictBoard;
 import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.progress.ProgressEvent;
+import fr.polytech.queenspuzzle.progress.ProgressReporter;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+import fr.polytech.queenspuzzle.randomizers.SplittableRandomizer;
 import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
-import fr.polytech.queenspuzzle.solutions.Solution;
 
 /**
  * This class represents a simulated annealing search queen puzzle algorithm solver.
@@ -14,11 +17,6 @@ import fr.polytech.queenspuzzle.solutions.Solution;
  */
 public class SimulatedAnnealingSearchQueenPuzzleAlgorithmSolver extends QueenPuzzleAlgorithmSolver {
 
-	/**
-	 * The randomizer.
-	 */
-	public final static SecureRandom RANDOMIZER = new SecureRandom();
-
 	/**
 	 * The number of states to generate for computing the initial temperature.
 	 */
@@ -44,6 +42,11 @@ public class SimulatedAnnealingSearchQueenPuzzleAlgorithmSolver extends QueenPuz
 	 */
 	private final double u;
 
+	/**
+	 * The randomizer.
+	 */
+	private final Randomizer randomizer;
+
 	/**
 	 * Create simulated annealing search queen puzzle algorithm solver.
 	 * 
@@ -57,95 +60,118 @@ public class SimulatedAnnealingSearchQueenPuzzleAlgorithmSolver extends QueenPuz
 	 *            The temperature degradation.
 	 */
 	public SimulatedAnnealingSearchQueenPuzzleAlgorithmSolver(double acceptanceProbability, double descentProbability, int nbMaxMoves, double u) {
+		this(acceptanceProbability, descentProbability, nbMaxMoves, u, new SplittableRandomizer());
+	}
+
+	/**
+	 * Create simulated annealing search queen puzzle algorithm solver.
+	 * 
+	 * @param acceptanceProbability
+	 *            The acceptance probability.
+	 * @param descentProbability
+	 *            The descent probability.
+	 * @param nbMaxMoves
+	 *            The number of max moves per dimension.
+	 * @param u
+	 *            The temperature degradation.
+	 * @param randomizer
+	 *            The randomizer.
+	 */
+	public SimulatedAnnealingSearchQueenPuzzleAlgorithmSolver(double acceptanceProbability, double descentProbability, int nbMaxMoves, double u, Randomizer randomizer) {
 		super();
 		this.acceptanceProbability = acceptanceProbability;
 		this.descentProbability = descentProbability;
 		this.nbMaxMoves = nbMaxMoves;
 		this.u = u;
+		this.randomizer = randomizer;
 	}
 
 	@Override
-	public AdvancedSolution solve(int[] initialState) {
-		final int worseDelta = computeWorseDelta(initialState);
+	protected AdvancedSolution solve(int[] initialState, CancellationToken cancellationToken, ProgressReporter progressReporter) {
+		final int nbQueens = initialState.length;
+		final int[] x = initialState.clone();
+		final DiagonalConflictBoard board = createBoard(x);
+
+		final int worseDelta = computeWorseDelta(board);
 		final int initialTemperature = computeInitialTemperature(worseDelta);
 		final int nbMaxTemperature = computeNbMaxTemperature(worseDelta, initialTemperature);
 
-		int[] x = initialState;
-		int fX = fitness(x);
-
-		int[] xMin = x;
-		int fMin = fX;
+		// The best state is only copied when it's improved
+		final int[] xMin = x.clone();
+		int fMin = board.getFitness();
 
-		int delta;
+		final AcceptanceTable acceptanceTable = new AcceptanceTable();
 		double temperature = initialTemperature;
 
-		Solution randomNeighbor = null;
-		int[] neighbor;
-		int fNeighbor;
+		progressReporter.setNbEvaluationsPerIteration(this.nbMaxMoves);
+
+		long nbProposedMoves = 0;
+		long nbAcceptedMoves = 0;
 
 		int currentIteration = 0;
-		for (int currentTemperature = 0; currentTemperature < nbMaxTemperature; currentTemperature++) {
-			for (int currentMove = 0; currentMove < this.nbMaxMoves; currentMove++) {
-				randomNeighbor = getRandomNeighbor(x);
-				neighbor = randomNeighbor.getState();
-				fNeighbor = randomNeighbor.getFitness();
+		int currentTemperature;
+		for (currentTemperature = 0; currentTemperature < nbMaxTemperature && fMin != 0 && nbQueens > 1 && !cancellationToken.isCancelled(); currentTemperature++) {
+			acceptanceTable.setTemperature(temperature);
 
-				delta = fNeighbor - fX;
-				if (delta <= 0) {
-					x = neighbor;
-					fX = fNeighbor;
+			for (int currentMove = 0; currentMove < this.nbMaxMoves; currentMove++) {
+				nbProposedMoves++;
+				if (randomMove(board, acceptanceTable)) {
+					nbAcceptedMoves++;
 
-					if (fNeighbor < fMin) {
-						fMin = fNeighbor;
-						xMin = neighbor;
+					if (board.getFitness() < fMin) {
+						fMin = board.getFitness();
+						System.arraycopy(x, 0, xMin, 0, nbQueens);
 
 						if (fMin == 0) {
 							currentIteration++;
 							break;
 						}
 					}
-				} else {
-					if (RANDOMIZER.nextDouble() <= Math.exp(-delta / temperature)) {
-						x = neighbor;
-						fX = fNeighbor;
-					}
 				}
 			}
 
+			progressReporter.report(currentIteration + 1, board.getFitness(), fMin, temperature, ProgressEvent.NO_TABU_SIZE);
+
 			temperature *= this.u;
 			currentIteration++;
 		}
 
-		return new AdvancedSolution(xMin, fMin, currentIteration);
+		// The worse delta value has been computed from some evaluated moves too
+		progressReporter.setNbEvaluations((nbQueens < 2 ? 0 : NB_STATES_TO_GENERATE) + nbProposedMoves);
+		progressReporter.setNbMoves(nbProposedMoves, nbAcceptedMoves);
+
+		return new AdvancedSolution(xMin, fMin, currentIteration, fMin == 0 || currentTemperature >= nbMaxTemperature);
 	}
 
 	/**
 	 * Compute the worse delta value.
 	 * 
-	 * @param initialState
-	 *            The initial state.
+	 * @param board
+	 *            The board of the initial state.
 	 * @return The worse delta value.
 	 */
-	private int computeWorseDelta(int[] initialState) {
-		int fWorseState = Integer.MIN_VALUE;
-		int fBestState = Integer.MAX_VALUE;
+	private int computeWorseDelta(DiagonalConflictBoard board) {
+		if (board.getNbQueens() < 2) {
+			return 0;
+		}
 
-		Solution neighbor = null;
-		int fState;
+		int worseDelta = Integer.MIN_VALUE;
+		int bestDelta = Integer.MAX_VALUE;
+
+		int delta;
 		for (int currentState = 0; currentState < NB_STATES_TO_GENERATE; currentState++) {
-			neighbor = getRandomNeighbor(initialState);
-			fState = neighbor.getFitness();
+			delta = getRandomDelta(board);
 
-			if (fState > fWorseState) {
-				fWorseState = fState;
+			if (delta > worseDelta) {
+				worseDelta = delta;
 			}
 
-			if (fState < fBestState) {
-				fBestState = fState;
+			if (delta < bestDelta) {
+				bestDelta = delta;
 			}
 		}
 
-		return fWorseState - fBestState;
+		return worseDelta - bestDelta;
 	}
 
 	/**
@@ -173,24 +199,46 @@ public class SimulatedAnnealingSearchQueenPuzzleAlgorithmSolver extends QueenPuz
 	}
 
 	/**
-	 * Generate a random neighbor according to an initial state.
+	 * Evaluate the switch of two random distinct columns, without applying it.
 	 * 
-	 * @param initialState
-	 *            The initial state.
-	 * @return A neighbor.
+	 * @param board
+	 *            The board of the current state (at least two queens).
+	 * @return The variation of the fitness value.
 	 */
-	private Solution getRandomNeighbor(int[] initialState) {
-		final int x = RANDOMIZER.nextInt(initialState.length);
-		final int y = RANDOMIZER.nextInt(initialState.length);
+	private int getRandomDelta(DiagonalConflictBoard board) {
+		final int nbQueens = board.getNbQueens();
+		final int x = this.randomizer.nextInt(nbQueens);
+		int y = this.randomizer.nextInt(nbQueens - 1);
+		if (y >= x) {
+			y++;
+		}
+
+		return board.deltaForSwap(x, y);
+	}
 
-		// Duplicate the initial state
-		final int[] randomNeighbor = initialState.clone();
+	/**
+	 * Switch two random distinct columns of the current state if the Metropolis criterion accepts it.
+	 * 
+	 * @param board
+	 *            The board of the current state (at least two queens).
+	 * @param acceptanceTable
+	 *            The acceptance table of the current temperature.
+	 * @return True if the move has been applied, else False.
+	 */
+	boolean randomMove(DiagonalConflictBoard board, AcceptanceTable acceptanceTable) {
+		final int nbQueens = board.getNbQueens();
+		final int x = this.randomizer.nextInt(nbQueens);
+		int y = this.randomizer.nextInt(nbQueens - 1);
+		if (y >= x) {
+			y++;
+		}
 
-		// Apply local transformation (= switch two columns)
-		final int temp = randomNeighbor[x];
-		randomNeighbor[x] = randomNeighbor[y];
-		randomNeighbor[y] = temp;
+		final int delta = board.deltaForSwap(x, y);
+		if (delta <= 0 || this.randomizer.nextDouble() <= acceptanceTable.getProbability(delta)) {
+			board.swap(x, y);
+			return true;
+		}
 
-		return new Solution(randomNeighbor, fitness(randomNeighbor));
+		return false;
 	}
 }
\ No newline at end of file
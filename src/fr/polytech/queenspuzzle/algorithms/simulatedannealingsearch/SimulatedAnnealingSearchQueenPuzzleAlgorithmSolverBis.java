@@ -1,10 +1,13 @@
 package fr.polytech.queenspuzzle.algorithms.simulatedannealingsearch;
 
-import java.security.SecureRandom;
-
+import fr.polytech.queenspuzzle.algorithms.CancellationToken;
+import fr.polytech.queenspuzzle.algorithms.DiagonalConflictBoard;
 import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.progress.ProgressEvent;
+import fr.polytech.queenspuzzle.progress.ProgressReporter;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+import fr.polytech.queenspuzzle.randomizers.SplittableRandomizer;
 import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
-import fr.polytech.queenspuzzle.solutions.Solution;
 
 /**
  * This class represents a simulated annealing search queen puzzle algorithm solver bis.
@@ -14,11 +17,6 @@ import fr.polytech.queenspuzzle.solutions.Solution;
  */
 public class SimulatedAnnealingSearchQueenPuzzleAlgorithmSolverBis extends QueenPuzzleAlgorithmSolver {
 
-	/**
-	 * The randomizer.
-	 */
-	public final static SecureRandom RANDOMIZER = new SecureRandom();
-
 	/**
 	 * The initial temperature.
 	 */
@@ -34,6 +32,11 @@ public class SimulatedAnnealingSearchQueenPuzzleAlgorithmSolverBis extends Queen
 	 */
 	private final double u;
 
+	/**
+	 * The randomizer.
+	 */
+	private final Randomizer randomizer;
+
 	/**
 	 * Create simulated annealing search queen puzzle algorithm solver bis.
 	 * 
@@ -45,80 +48,95 @@ public class SimulatedAnnealingSearchQueenPuzzleAlgorithmSolverBis extends Queen
 	 *            The temperature degradation.
 	 */
 	public SimulatedAnnealingSearchQueenPuzzleAlgorithmSolverBis(int initialTemperature, double threshold, double u) {
+		this(initialTemperature, threshold, u, new SplittableRandomizer());
+	}
+
+	/**
+	 * Create simulated annealing search queen puzzle algorithm solver bis.
+	 * 
+	 * @param initialTemperature
+	 *            The initial temperature.
+	 * @param threshold
+	 *            The threshold.
+	 * @param u
+	 *            The temperature degradation.
+	 * @param randomizer
+	 *            The randomizer.
+	 */
+	public SimulatedAnnealingSearchQueenPuzzleAlgorithmSolverBis(int initialTemperature, double threshold, double u, Randomizer randomizer) {
 		super();
 		this.initialTemperature = initialTemperature;
 		this.threshold = threshold;
 		this.u = u;
+		this.randomizer = randomizer;
 	}
 
 	@Override
-	public AdvancedSolution solve(int[] initialState) {
-		int[] x = initialState;
-		int fX = fitness(x);
+	protected AdvancedSolution solve(int[] initialState, CancellationToken cancellationToken, ProgressReporter progressReporter) {
+		final int nbQueens = initialState.length;
+		final int[] x = initialState.clone();
+		final DiagonalConflictBoard board = createBoard(x);
 
-		int[] xMin = x;
-		int fMin = fX;
+		// The best state is only copied when it's improved
+		final int[] xMin = x.clone();
+		int fMin = board.getFitness();
 
 		double temperature = this.initialTemperature;
-		int delta;
 
-		Solution randomNeighbor = null;
-		int[] neighbor;
-		int fNeighbor;
+		long nbAcceptedMoves = 0;
 
 		int currentIteration = 0;
-		while (temperature > this.threshold) {
-			randomNeighbor = getRandomNeighbor(x);
-			neighbor = randomNeighbor.getState();
-			fNeighbor = randomNeighbor.getFitness();
+		while (temperature > this.threshold && fMin != 0 && nbQueens > 1 && !cancellationToken.isCancelled(currentIteration)) {
+			if (randomMove(board, temperature)) {
+				nbAcceptedMoves++;
 
-			delta = fNeighbor - fX;
-			if (delta <= 0) {
-				x = neighbor;
-				fX = fNeighbor;
-
-				if (fNeighbor < fMin) {
-					fMin = fNeighbor;
-					xMin = neighbor;
+				if (board.getFitness() < fMin) {
+					fMin = board.getFitness();
+					System.arraycopy(x, 0, xMin, 0, nbQueens);
 
 					if (fMin == 0) {
 						currentIteration++;
 						break;
 					}
 				}
-			} else {
-				if (RANDOMIZER.nextDouble() <= Math.exp(-delta / temperature)) {
-					x = neighbor;
-					fX = fNeighbor;
-				}
 			}
 
+			progressReporter.report(currentIteration + 1, board.getFitness(), fMin, temperature, ProgressEvent.NO_TABU_SIZE);
+
 			temperature *= this.u;
 			currentIteration++;
 		}
 
-		return new AdvancedSolution(xMin, fMin, currentIteration);
+		// One move is proposed and evaluated per iteration
+		progressReporter.setNbEvaluations(currentIteration);
+		progressReporter.setNbMoves(currentIteration, nbAcceptedMoves);
+
+		return new AdvancedSolution(xMin, fMin, currentIteration, fMin == 0 || temperature <= this.threshold);
 	}
 
 	/**
-	 * Generate a random neighbor according to an initial state.
+	 * Switch two random distinct columns of the current state if the Metropolis criterion accepts it.
 	 * 
-	 * @param initialState
-	 *            The initial state.
-	 * @return A random neighbor.
+	 * @param board
+	 *            The board of the current state (at least two queens).
+	 * @param temperature
+	 *            The temperature.
+	 * @return True if the move has been applied, else False.
 	 */
-	private Solution getRandomNeighbor(int[] initialState) {
-		final int x = RANDOMIZER.nextInt(initialState.length);
-		final int y = RANDOMIZER.nextInt(initialState.length);
-
-		// Duplicate the initial state
-		final int[] randomNeighbor = initialState.clone();
+	private boolean randomMove(DiagonalConflictBoard board, double temperature) {
+		final int nbQueens = board.getNbQueens();
+		final int x = this.randomizer.nextInt(nbQueens);
+		int y = this.randomizer.nextInt(nbQueens - 1);
+		if (y >= x) {
+			y++;
+		}
 
-		// Apply local transformation (= switch two columns)
-		final int temp = randomNeighbor[x];
-		randomNeighbor[x] = randomNeighbor[y];
-		randomNeighbor[y] = temp;
+		final int delta = board.deltaForSwap(x, y);
+		if (delta <= 0 || this.randomizer.nextDouble() <= Math.exp(-delta / temperature)) {
+			board.swap(x, y);
+			return true;
+		}
 
-		return new Solution(randomNeighbor, fitness(randomNeighbor));
+		return false;
 	}
 }
\ No newline at end of file
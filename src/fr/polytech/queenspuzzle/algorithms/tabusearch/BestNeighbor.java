@@ -0,0 +1,187 @@
+package fr.polytech.queenspuzzle.algorithms.tabusearch;
+
+/**
+ * This class represents the best neighbor met during a neighborhood scan, recorded as the switched columns with the resulting fitness value, along with the counts of the scan.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+class BestNeighbor {
+
+	/**
+	 * The value of the X position when no neighbor has been met.
+	 */
+	public static final int NO_POSITION = -1;
+
+	/**
+	 * The X position.
+	 */
+	private int x;
+
+	/**
+	 * The Y position.
+	 */
+	private int y;
+
+	/**
+	 * The fitness value.
+	 */
+	private long fitness;
+
+	/**
+	 * The number of visited neighbors (evaluated or forbidden).
+	 */
+	private long nbVisitedNeighbors;
+
+	/**
+	 * The number of neighbors forbidden by the tabu list.
+	 */
+	private long nbTabuRejections;
+
+	/**
+	 * Create a best neighbor.
+	 */
+	public BestNeighbor() {
+		reset();
+	}
+
+	/**
+	 * Forget the recorded neighbor and the counts of the scan.
+	 */
+	public void reset() {
+		this.x = NO_POSITION;
+		this.y = NO_POSITION;
+		this.fitness = Long.MAX_VALUE;
+		this.nbVisitedNeighbors = 0;
+		this.nbTabuRejections = 0;
+	}
+
+	/**
+	 * Record a neighbor.
+	 *
+	 * @param x
+	 *            The X position.
+	 * @param y
+	 *            The Y position.
+	 * @param fitness
+	 *            The fitness value.
+	 */
+	public void set(int x, int y, long fitness) {
+		this.x = x;
+		this.y = y;
+		this.fitness = fitness;
+	}
+
+	/**
+	 * Count visited neighbors.
+	 *
+	 * @param nbVisitedNeighbors
+	 *            The number of visited neighbors.
+	 */
+	public void addVisitedNeighbors(long nbVisitedNeighbors) {
+		this.nbVisitedNeighbors += nbVisitedNeighbors;
+	}
+
+	/**
+	 * Count a neighbor forbidden by the tabu list.
+	 */
+	public void addTabuRejection() {
+		this.nbTabuRejections++;
+	}
+
+	/**
+	 * Add the counts of the scan of another part of the neighborhood.
+	 *
+	 * @param other
+	 *            The best neighbor of the other part.
+	 */
+	public void addCounts(BestNeighbor other) {
+		this.nbVisitedNeighbors += other.nbVisitedNeighbors;
+		this.nbTabuRejections += other.nbTabuRejections;
+	}
+
+	/**
+	 * Check if a neighbor has been recorded.
+	 *
+	 * @return True if a neighbor has been recorded, else False.
+	 */
+	public boolean exists() {
+		return this.x != NO_POSITION;
+	}
+
+	/**
+	 * Check if this neighbor is better than another one: a lower fitness value, or the same fitness value with a lower (X, Y) position.
+	 *
+	 * @param other
+	 *            The other neighbor.
+	 * @return True if this neighbor is better, else False.
+	 */
+	public boolean isBetterThan(BestNeighbor other) {
+		if (!exists()) {
+			return false;
+		}
+
+		if (!other.exists()) {
+			return true;
+		}
+
+		if (this.fitness != other.fitness) {
+			return this.fitness < other.fitness;
+		}
+
+		return this.x < other.x || (this.x == other.x && this.y < other.y);
+	}
+
+	/**
+	 * Get the X position.
+	 *
+	 * @return The X position.
+	 */
+	public int getX() {
+		return this.x;
+	}
+
+	/**
+	 * Get the Y position.
+	 *
+	 * @return The Y position.
+	 */
+	public int getY() {
+		return this.y;
+	}
+
+	/**
+	 * Get the fitness value.
+	 *
+	 * @return The fitness value.
+	 */
+	public long getFitness() {
+		return this.fitness;
+	}
+
+	/**
+	 * Get the number of evaluated neighbors.
+	 *
+	 * @return The number of evaluated neighbors.
+	 */
+	public long getNbEvaluatedNeighbors() {
+		return this.nbVisitedNeighbors - this.nbTabuRejections;
+	}
+
+	/**
+	 * Get the number of neighbors forbidden by the tabu list.
+	 *
+	 * @return The number of tabu rejections.
+	 */
+	public long getNbTabuRejections() {
+		return this.nbTabuRejections;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "BestNeighbor [x=" + this.x + ", y=" + this.y + ", fitness=" + this.fitness + "]";
+	}
+}
\ No newline at end of file
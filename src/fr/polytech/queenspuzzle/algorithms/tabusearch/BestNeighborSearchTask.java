@@ -0,0 +1,111 @@
+package fr.polytech.queenspuzzle.algorithms.tabusearch;
+
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import fr.polytech.queenspuzzle.algorithms.DiagonalConflictBoard;
+
+/**
+ * This class represents a fork/join task which searches the best neighbor among the switches (x, y) whose X position belongs to a range.
+ *
+ * Each leaf keeps its own best neighbor and the results are reduced with {@link BestNeighbor#isBetterThan(BestNeighbor)}, so the result is the same as the sequential scan whatever the scheduling.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+class BestNeighborSearchTask extends RecursiveTask<BestNeighbor> {
+
+	/**
+	 * The serial version UID.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The maximal number of switches evaluated by a single task.
+	 */
+	public static final long MAX_NB_SWITCHES_PER_TASK = 8192;
+
+	/**
+	 * The board of the current state (only read).
+	 */
+	private final DiagonalConflictBoard board;
+
+	/**
+	 * The tabu list (only read).
+	 */
+	private final TabuList tabuList;
+
+	/**
+	 * The first X position (inclusive).
+	 */
+	private final int fromX;
+
+	/**
+	 * The last X position (exclusive).
+	 */
+	private final int toX;
+
+	/**
+	 * The packed position of the first neighbor without conflicts met by all tasks.
+	 */
+	private final AtomicLong firstZeroNeighbor;
+
+	/**
+	 * Create a best neighbor search task.
+	 *
+	 * @param board
+	 *            The board of the current state.
+	 * @param tabuList
+	 *            The tabu list.
+	 * @param fromX
+	 *            The first X position (inclusive).
+	 * @param toX
+	 *            The last X position (exclusive).
+	 * @param firstZeroNeighbor
+	 *            The packed position of the first neighbor without conflicts met by all tasks (Long.MAX_VALUE at the beginning).
+	 */
+	public BestNeighborSearchTask(DiagonalConflictBoard board, TabuList tabuList, int fromX, int toX, AtomicLong firstZeroNeighbor) {
+		this.board = board;
+		this.tabuList = tabuList;
+		this.fromX = fromX;
+		this.toX = toX;
+		this.firstZeroNeighbor = firstZeroNeighbor;
+	}
+
+	@Override
+	protected BestNeighbor compute() {
+		final int nbQueens = this.board.getNbQueens();
+
+		// Split the range to get the same number of switches on each side
+		long nbSwitches = 0;
+		for (int x = this.fromX; x < this.toX; x++) {
+			nbSwitches += nbQueens - 1 - x;
+		}
+
+		if (nbSwitches <= MAX_NB_SWITCHES_PER_TASK || this.toX - this.fromX < 2) {
+			final BestNeighbor bestNeighbor = new BestNeighbor();
+			TabuSearchQueenPuzzleAlgorithmSolver.getBestNeighbor(this.board, this.tabuList, this.fromX, this.toX, bestNeighbor, this.firstZeroNeighbor);
+			return bestNeighbor;
+		}
+
+		int middleX = this.fromX;
+		for (long nbLeftSwitches = 0; 2 * nbLeftSwitches < nbSwitches && middleX < this.toX - 1; middleX++) {
+			nbLeftSwitches += nbQueens - 1 - middleX;
+		}
+
+		final BestNeighborSearchTask left = new BestNeighborSearchTask(this.board, this.tabuList, this.fromX, middleX, this.firstZeroNeighbor);
+		final BestNeighborSearchTask right = new BestNeighborSearchTask(this.board, this.tabuList, middleX, this.toX, this.firstZeroNeighbor);
+		right.fork();
+
+		final BestNeighbor leftBestNeighbor = left.compute();
+		final BestNeighbor rightBestNeighbor = right.join();
+
+		if (rightBestNeighbor.isBetterThan(leftBestNeighbor)) {
+			rightBestNeighbor.addCounts(leftBestNeighbor);
+			return rightBestNeighbor;
+		}
+
+		leftBestNeighbor.addCounts(rightBestNeighbor);
+		return leftBestNeighbor;
+	}
+}
\ No newline at end of file
@@ -1,22 +1,21 @@
 package fr.polytech.queenspuzzle.algorithms.tabusearch;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Arrays;
 
 /**
  * This class represents a tabu list.
  *
+ * The forbidden transformations are packed into long keys, kept in a ring buffer (to expire the oldest one in O(1)) and counted into an open addressing set (to check a transformation in O(1)), so the memory only depends on the size of the tabu list.
+ *
  * @author DELORME Loïc
  * @since 1.0.0
  */
 public class TabuList {
 
 	/**
-	 * The default insertion offset.
+	 * The value of an empty slot of the locked elements set.
 	 */
-	public static final int DEFAULT_INSERTION_OFFSET = 0;
+	private static final long EMPTY_KEY = -1L;
 
 	/**
 	 * The size of the tabu list.
@@ -24,18 +23,38 @@ public class TabuList {
 	private final int size;
 
 	/**
-	 * The forbidden transformations.
+	 * The forbidden transformations (ring buffer of packed keys).
 	 */
-	private final List<int[]> forbiddenTransformations;
+	private final long[] forbiddenTransformations;
 
 	/**
-	 * The locked elements.
+	 * The offset of the oldest forbidden transformation.
 	 */
-	private final Map<Integer, List<Integer>> lockedElements;
+	private int oldestForbiddenTransformation;
+
+	/**
+	 * The number of forbidden transformations.
+	 */
+	private int nbForbiddenTransformations;
+
+	/**
+	 * The locked elements (open addressing set of packed keys).
+	 */
+	private final long[] lockedElements;
+
+	/**
+	 * The number of occurrences of each locked element.
+	 */
+	private final int[] lockedElementsCounts;
+
+	/**
+	 * The mask used to compute an offset into the locked elements set.
+	 */
+	private final int mask;
 
 	/**
 	 * Create a tabu list.
-	 * 
+	 *
 	 * @param nbQueens
 	 *            The number of queens.
 	 * @param size
@@ -43,27 +62,22 @@ public class TabuList {
 	 */
 	public TabuList(int nbQueens, int size) {
 		this.size = size;
-		this.forbiddenTransformations = new ArrayList<int[]>(size + 1);
-		this.lockedElements = new TreeMap<Integer, List<Integer>>();
+		this.forbiddenTransformations = new long[Math.max(size, 0)];
+		this.oldestForbiddenTransformation = 0;
+		this.nbForbiddenTransformations = 0;
 
-		initializeLockedElements(nbQueens);
-	}
+		// Keep the load factor under 0.5
+		final int capacity = Integer.highestOneBit(Math.max(2 * size, 1)) << 1;
+		this.lockedElements = new long[capacity];
+		this.lockedElementsCounts = new int[capacity];
+		this.mask = capacity - 1;
 
-	/**
-	 * Initialize the locked elements tree.
-	 * 
-	 * @param nbQueens
-	 *            The number of queens.
-	 */
-	private void initializeLockedElements(int nbQueens) {
-		for (int index = 0; index < nbQueens; index++) {
-			this.lockedElements.put(index, new ArrayList<Integer>(nbQueens));
-		}
+		Arrays.fill(this.lockedElements, EMPTY_KEY);
 	}
 
 	/**
 	 * Check if a transformation is valid according to the current locked elements.
-	 * 
+	 *
 	 * @param x
 	 *            The X position.
 	 * @param y
@@ -71,40 +85,144 @@ public class TabuList {
 	 * @return True if it's a valid transformation, else False.
 	 */
 	public boolean isValidTransformation(int x, int y) {
-		return !(this.lockedElements.get(x).contains(y) && this.lockedElements.get(y).contains(x));
+		return this.nbForbiddenTransformations == 0 || find(key(x, y)) < 0;
 	}
 
 	/**
 	 * Add an invalid transformation.
-	 * 
+	 *
 	 * @param invalidTransformation
 	 *            The invalid transformation.
 	 */
 	public void addInvalidTransformation(int[] invalidTransformation) {
-		final Integer x = Integer.valueOf(invalidTransformation[0]);
-		final Integer y = Integer.valueOf(invalidTransformation[1]);
+		addInvalidTransformation(invalidTransformation[0], invalidTransformation[1]);
+	}
 
-		this.lockedElements.get(x).add(y);
-		this.lockedElements.get(y).add(x);
+	/**
+	 * Add an invalid transformation.
+	 *
+	 * @param x
+	 *            The X position.
+	 * @param y
+	 *            The Y position.
+	 */
+	public void addInvalidTransformation(int x, int y) {
+		if (this.size <= 0) {
+			return;
+		}
 
-		this.forbiddenTransformations.add(DEFAULT_INSERTION_OFFSET, invalidTransformation);
-		if (this.forbiddenTransformations.size() > this.size) {
+		if (this.nbForbiddenTransformations == this.size) {
 			removeOldInvalidTransformation();
 		}
+
+		final long key = key(x, y);
+		this.forbiddenTransformations[(this.oldestForbiddenTransformation + this.nbForbiddenTransformations) % this.size] = key;
+		this.nbForbiddenTransformations++;
+
+		lock(key);
+	}
+
+	/**
+	 * Get the number of forbidden transformations.
+	 *
+	 * @return The number of forbidden transformations.
+	 */
+	public int getNbForbiddenTransformations() {
+		return this.nbForbiddenTransformations;
 	}
 
 	/**
 	 * Remove the old invalid transformation.
 	 */
 	private void removeOldInvalidTransformation() {
-		final int[] oldInvalidTransformation = this.forbiddenTransformations.get(this.size);
+		final long key = this.forbiddenTransformations[this.oldestForbiddenTransformation];
+
+		this.oldestForbiddenTransformation = (this.oldestForbiddenTransformation + 1) % this.size;
+		this.nbForbiddenTransformations--;
+
+		unlock(key);
+	}
+
+	/**
+	 * Pack a transformation into a key which doesn't depend on the order of the positions.
+	 *
+	 * @param x
+	 *            The X position.
+	 * @param y
+	 *            The Y position.
+	 * @return The packed key.
+	 */
+	private static long key(int x, int y) {
+		return x < y ? ((long) x << 32) | y : ((long) y << 32) | x;
+	}
+
+	/**
+	 * Compute the home offset of a key into the locked elements set.
+	 *
+	 * @param key
+	 *            The key.
+	 * @return The home offset.
+	 */
+	private int home(long key) {
+		final long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32)) & this.mask;
+	}
 
-		final Integer x = Integer.valueOf(oldInvalidTransformation[0]);
-		final Integer y = Integer.valueOf(oldInvalidTransformation[1]);
+	/**
+	 * Find the offset of a key into the locked elements set.
+	 *
+	 * @param key
+	 *            The key.
+	 * @return The offset, or -1 if the key is not locked.
+	 */
+	private int find(long key) {
+		for (int offset = home(key); this.lockedElements[offset] != EMPTY_KEY; offset = (offset + 1) & this.mask) {
+			if (this.lockedElements[offset] == key) {
+				return offset;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Add an occurrence of a key into the locked elements set.
+	 *
+	 * @param key
+	 *            The key.
+	 */
+	private void lock(long key) {
+		int offset = home(key);
+		while (this.lockedElements[offset] != EMPTY_KEY && this.lockedElements[offset] != key) {
+			offset = (offset + 1) & this.mask;
+		}
+
+		this.lockedElements[offset] = key;
+		this.lockedElementsCounts[offset]++;
+	}
+
+	/**
+	 * Remove an occurrence of a key from the locked elements set.
+	 *
+	 * @param key
+	 *            The key.
+	 */
+	private void unlock(long key) {
+		int hole = find(key);
+		if (--this.lockedElementsCounts[hole] > 0) {
+			return;
+		}
 
-		this.lockedElements.get(x).remove(y);
-		this.lockedElements.get(y).remove(x);
+		// Shift back the following keys of the cluster which can't be found anymore
+		for (int offset = (hole + 1) & this.mask; this.lockedElements[offset] != EMPTY_KEY; offset = (offset + 1) & this.mask) {
+			if (((offset - home(this.lockedElements[offset])) & this.mask) >= ((offset - hole) & this.mask)) {
+				this.lockedElements[hole] = this.lockedElements[offset];
+				this.lockedElementsCounts[hole] = this.lockedElementsCounts[offset];
+				hole = offset;
+			}
+		}
 
-		this.forbiddenTransformations.remove(this.size);
+		this.lockedElements[hole] = EMPTY_KEY;
+		this.lockedElementsCounts[hole] = 0;
 	}
 }
\ No newline at end of file
@@ -1,17 +1,54 @@
 package fr.polytech.queenspuzzle.algorithms.tabusearch;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import fr.polytech.queenspuzzle.algorithms.CancellationToken;
+import fr.polytech.queenspuzzle.algorithms.ConflictedQueenSet;
+import fr.polytech.queenspuzzle.algorithms.DiagonalConflictBoard;
 import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.progress.ProgressEvent;
+import fr.polytech.queenspuzzle.progress.ProgressReporter;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+import fr.polytech.queenspuzzle.randomizers.SplittableRandomizer;
 import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
-import fr.polytech.queenspuzzle.solutions.LocalTabuSearchSolution;
 
 /**
  * This class represents a tabu search queen puzzle algorithm solver.
  *
+ * Only a switch which moves an attacked queen can reduce the conflicts, so the neighborhood may be restricted to the switches of the conflicted queens ({@link Neighborhood}): an iteration then costs O(c * n), or O(c * k) with k sampled columns, instead of O(n^2), where c is the number of conflicted queens. The conflicted queens are kept into a lazy {@link ConflictedQueenSet}, updated with the switched queens after an improving move and rebuilt after the other ones (the queens newly attacked by a move are only met by a rebuild).
+ *
  * @author DELORME Loïc
  * @since 1.0.0
  */
 public class TabuSearchQueenPuzzleAlgorithmSolver extends QueenPuzzleAlgorithmSolver {
 
+	/**
+	 * This enumeration represents the neighborhood evaluated at each iteration.
+	 */
+	public enum Neighborhood {
+
+		/**
+		 * All the switches (x, y), O(n^2).
+		 */
+		ALL,
+
+		/**
+		 * The switches of the conflicted queens with all the columns, O(c * n).
+		 */
+		CONFLICTED,
+
+		/**
+		 * The switches of the conflicted queens with some random columns, O(c * k).
+		 */
+		SAMPLED_CONFLICTED,
+
+		/**
+		 * The switches of the conflicted queens with all the columns, until the first one which reduces the conflicts.
+		 */
+		FIRST_IMPROVEMENT
+	}
+
 	/**
 	 * The tabu list size.
 	 */
@@ -22,6 +59,26 @@ public class TabuSearchQueenPuzzleAlgorithmSolver extends QueenPuzzleAlgorithmSo
 	 */
 	private final int nbMaxIterations;
 
+	/**
+	 * The fork/join pool used to evaluate the neighbors (null to evaluate them sequentially).
+	 */
+	private final ForkJoinPool forkJoinPool;
+
+	/**
+	 * The neighborhood.
+	 */
+	private final Neighborhood neighborhood;
+
+	/**
+	 * The number of random columns evaluated for each conflicted queen (only used by the sampled neighborhood).
+	 */
+	private final int nbSamples;
+
+	/**
+	 * The randomizer (only used by the sampled neighborhood).
+	 */
+	private final Randomizer randomizer;
+
 	/**
 	 * Create a tabu search queen puzzle algorithm solver.
 	 * 
@@ -31,108 +88,339 @@ public class TabuSearchQueenPuzzleAlgorithmSolver extends QueenPuzzleAlgorithmSo
 	 *            The number of maximal allowed iterations.
 	 */
 	public TabuSearchQueenPuzzleAlgorithmSolver(int tabuListSize, int nbMaxIterations) {
+		this(tabuListSize, nbMaxIterations, null);
+	}
+
+	/**
+	 * Create a tabu search queen puzzle algorithm solver which evaluates the neighbors in parallel.
+	 * 
+	 * @param tabuListSize
+	 *            The tabu list size.
+	 * @param nbMaxIterations
+	 *            The number of maximal allowed iterations.
+	 * @param forkJoinPool
+	 *            The fork/join pool used to evaluate the neighbors (null to evaluate them sequentially).
+	 */
+	public TabuSearchQueenPuzzleAlgorithmSolver(int tabuListSize, int nbMaxIterations, ForkJoinPool forkJoinPool) {
+		this(tabuListSize, nbMaxIterations, Neighborhood.ALL, 0, forkJoinPool, new SplittableRandomizer());
+	}
+
+	/**
+	 * Create a tabu search queen puzzle algorithm solver which evaluates a given neighborhood.
+	 * 
+	 * @param tabuListSize
+	 *            The tabu list size.
+	 * @param nbMaxIterations
+	 *            The number of maximal allowed iterations.
+	 * @param neighborhood
+	 *            The neighborhood.
+	 * @param nbSamples
+	 *            The number of random columns evaluated for each conflicted queen (only used by the sampled neighborhood).
+	 * @param randomizer
+	 *            The randomizer (only used by the sampled neighborhood).
+	 */
+	public TabuSearchQueenPuzzleAlgorithmSolver(int tabuListSize, int nbMaxIterations, Neighborhood neighborhood, int nbSamples, Randomizer randomizer) {
+		this(tabuListSize, nbMaxIterations, neighborhood, nbSamples, null, randomizer);
+	}
+
+	/**
+	 * Create a tabu search queen puzzle algorithm solver.
+	 * 
+	 * @param tabuListSize
+	 *            The tabu list size.
+	 * @param nbMaxIterations
+	 *            The number of maximal allowed iterations.
+	 * @param neighborhood
+	 *            The neighborhood.
+	 * @param nbSamples
+	 *            The number of random columns evaluated for each conflicted queen (only used by the sampled neighborhood).
+	 * @param forkJoinPool
+	 *            The fork/join pool used to evaluate the neighbors (null to evaluate them sequentially, only used by the whole neighborhood).
+	 * @param randomizer
+	 *            The randomizer (only used by the sampled neighborhood).
+	 */
+	private TabuSearchQueenPuzzleAlgorithmSolver(int tabuListSize, int nbMaxIterations, Neighborhood neighborhood, int nbSamples, ForkJoinPool forkJoinPool, Randomizer randomizer) {
 		super();
+
+		if (neighborhood == Neighborhood.SAMPLED_CONFLICTED && nbSamples < 1) {
+			throw new IllegalArgumentException("The number of samples must be positive.");
+		}
+
 		this.tabuListSize = tabuListSize;
 		this.nbMaxIterations = nbMaxIterations;
+		this.forkJoinPool = forkJoinPool;
+		this.neighborhood = neighborhood;
+		this.nbSamples = nbSamples;
+		this.randomizer = randomizer;
 	}
 
 	@Override
-	public AdvancedSolution solve(int[] initialState) {
-		int[] x = initialState;
-		int fX = fitness(x);
+	protected AdvancedSolution solve(int[] initialState, CancellationToken cancellationToken, ProgressReporter progressReporter) {
+		// Work on a single copy of the initial state, only the chosen switches are applied to it
+		final int[] x = initialState.clone();
+		final DiagonalConflictBoard board = createBoard(x);
+		long fX = board.getExactFitness();
 
-		int[] xMin = x;
-		int fMin = fX;
+		final int[] xMin = x.clone();
+		long fMin = fX;
 
 		int delta;
 		int currentIteration = 0;
 		final TabuList tabuList = new TabuList(initialState.length, this.tabuListSize);
+		BestNeighbor bestNeighbor = new BestNeighbor();
+		long nbEvaluatedNeighbors = 0;
+		long nbTabuRejections = 0;
+		long nbAppliedSwitches = 0;
+
+		final ConflictedQueenSet conflictedQueens = this.neighborhood == Neighborhood.ALL ? null : new ConflictedQueenSet(initialState.length);
+		if (conflictedQueens != null) {
+			conflictedQueens.rebuild(board);
+		}
 
-		LocalTabuSearchSolution generatedBestNeighbor = null;
-		int[] bestNeighbor;
-		int fBestNeighbor;
-		int[] bestNeighborTransformation;
+		progressReporter.setNbEvaluationsPerIteration((long) initialState.length * (initialState.length - 1) / 2);
 
 		do {
 			// Get the best neighbor
-			generatedBestNeighbor = getBestNeighbor(x, tabuList);
+			bestNeighbor = conflictedQueens == null ? getBestNeighbor(board, tabuList, bestNeighbor) : getBestConflictedNeighbor(board, tabuList, conflictedQueens, bestNeighbor);
+			nbEvaluatedNeighbors += bestNeighbor.getNbEvaluatedNeighbors();
+			nbTabuRejections += bestNeighbor.getNbTabuRejections();
 
 			// Check if it exists
-			if (generatedBestNeighbor != null) {
-				// Recover best neighbor data
-				bestNeighbor = generatedBestNeighbor.getState();
-				fBestNeighbor = generatedBestNeighbor.getFitness();
-				bestNeighborTransformation = generatedBestNeighbor.getTransformation();
-
+			if (bestNeighbor.exists()) {
 				// Compute the delta value
-				delta = fBestNeighbor - fX;
+				delta = (int) (bestNeighbor.getFitness() - fX);
 				if (delta >= 0) {
-					tabuList.addInvalidTransformation(bestNeighborTransformation);
+					tabuList.addInvalidTransformation(bestNeighbor.getX(), bestNeighbor.getY());
+				}
+
+				// Apply local transformation (= switch two columns)
+				board.swap(bestNeighbor.getX(), bestNeighbor.getY());
+				fX = board.getExactFitness();
+				nbAppliedSwitches++;
+
+				if (conflictedQueens != null) {
+					updateConflictedQueens(board, conflictedQueens, bestNeighbor, delta);
 				}
 
 				// Check if it's the best solution we have ever met
-				if (fBestNeighbor < fMin) {
-					fMin = fBestNeighbor;
-					xMin = bestNeighbor;
+				if (fX < fMin) {
+					fMin = fX;
+					System.arraycopy(x, 0, xMin, 0, x.length);
 
 					if (fMin == 0) {
-						return new AdvancedSolution(xMin, fMin, ++currentIteration);
+						progressReporter.setNbEvaluations(nbEvaluatedNeighbors);
+						progressReporter.setNbMoves(nbEvaluatedNeighbors, nbAppliedSwitches);
+						progressReporter.setNbTabuRejections(nbTabuRejections);
+						return new AdvancedSolution(xMin, 0, ++currentIteration);
 					}
 				}
-
-				x = bestNeighbor;
-				fX = fBestNeighbor;
 			}
 
 			currentIteration++;
-		} while (currentIteration != this.nbMaxIterations && generatedBestNeighbor != null);
 
-		return new AdvancedSolution(xMin, fMin, currentIteration);
+			if (conflictedQueens != null && progressReporter.isSampled(currentIteration)) {
+				// The size of the restricted neighborhood changes at each iteration, so the progress events use the average one
+				progressReporter.setNbEvaluationsPerIteration(Math.max(nbEvaluatedNeighbors / currentIteration, 1));
+			}
+
+			progressReporter.report(currentIteration, DiagonalConflictBoard.saturate(fX), DiagonalConflictBoard.saturate(fMin), ProgressEvent.NO_TEMPERATURE, tabuList.getNbForbiddenTransformations());
+		} while (currentIteration != this.nbMaxIterations && bestNeighbor.exists() && !cancellationToken.isCancelled());
+
+		progressReporter.setNbEvaluations(nbEvaluatedNeighbors);
+		progressReporter.setNbMoves(nbEvaluatedNeighbors, nbAppliedSwitches);
+		progressReporter.setNbTabuRejections(nbTabuRejections);
+		return new AdvancedSolution(xMin, DiagonalConflictBoard.saturate(fMin), currentIteration, currentIteration == this.nbMaxIterations || !bestNeighbor.exists());
+	}
+
+	/**
+	 * Evaluate all neighbors (without duplicating the state) and get the best one according to the current state of a board.
+	 * 
+	 * @param board
+	 *            The board of the current state.
+	 * @param tabuList
+	 *            The tabu list.
+	 * @param bestNeighbor
+	 *            The best neighbor which will be overridden by the sequential evaluation.
+	 * @return The best neighbor (it doesn't exist if all transformations are forbidden).
+	 */
+	BestNeighbor getBestNeighbor(DiagonalConflictBoard board, TabuList tabuList, BestNeighbor bestNeighbor) {
+		final int nbQueens = board.getNbQueens();
+
+		if (this.forkJoinPool != null && (long) nbQueens * (nbQueens - 1) / 2 > BestNeighborSearchTask.MAX_NB_SWITCHES_PER_TASK) {
+			return this.forkJoinPool.invoke(new BestNeighborSearchTask(board, tabuList, 0, nbQueens, new AtomicLong(Long.MAX_VALUE)));
+		}
+
+		bestNeighbor.reset();
+		getBestNeighbor(board, tabuList, 0, nbQueens, bestNeighbor, null);
+
+		return bestNeighbor;
 	}
 
 	/**
-	 * Generate all neighbors and get the best one according to an initial state.
+	 * Evaluate the neighbors obtained by switching the columns (x, y) with x in a given range and x &lt; y, and record the best one with the counts of the scan.
 	 * 
-	 * @param initialState
-	 *            The initial state.
+	 * @param board
+	 *            The board of the current state.
 	 * @param tabuList
 	 *            The tabu list.
-	 * @return The best neighbor.
-	 */
-	private LocalTabuSearchSolution getBestNeighbor(int[] initialState, TabuList tabuList) {
-		int[] bestNeighbor = null;
-		int fBestNeighbor = Integer.MAX_VALUE;
-		int[] bestNeighborTransformation = null;
-
-		int[] neighbor;
-		int fNeighbor;
-		int temp;
-		for (int x = 0; x < initialState.length; x++) {
-			for (int y = x + 1; y < initialState.length; y++) {
+	 * @param fromX
+	 *            The first X position (inclusive).
+	 * @param toX
+	 *            The last X position (exclusive).
+	 * @param bestNeighbor
+	 *            The best neighbor which will be overridden or not.
+	 * @param firstZeroNeighbor
+	 *            The packed position of the first neighbor without conflicts met by all parallel evaluations (null if sequential).
+	 */
+	static void getBestNeighbor(DiagonalConflictBoard board, TabuList tabuList, int fromX, int toX, BestNeighbor bestNeighbor, AtomicLong firstZeroNeighbor) {
+		final int nbQueens = board.getNbQueens();
+		final long fX = board.getExactFitness();
+
+		long fNeighbor;
+		for (int x = fromX; x < toX; x++) {
+			// Stop if a previous neighbor without conflicts has been met by another evaluation
+			if (firstZeroNeighbor != null && (firstZeroNeighbor.get() >>> 32) < x) {
+				return;
+			}
+
+			for (int y = x + 1; y < nbQueens; y++) {
 				if (tabuList.isValidTransformation(x, y)) {
-					// Duplicate the initial state
-					neighbor = initialState.clone();
+					// Check if it's the best neighbor we have ever met
+					fNeighbor = fX + board.deltaForSwap(x, y);
+					if (fNeighbor < bestNeighbor.getFitness()) {
+						bestNeighbor.set(x, y, fNeighbor);
+
+						if (fNeighbor == 0) {
+							if (firstZeroNeighbor != null) {
+								final long position = ((long) x << 32) | y;
+								firstZeroNeighbor.accumulateAndGet(position, Math::min);
+							}
+
+							bestNeighbor.addVisitedNeighbors(y - x);
+							return;
+						}
+					}
+				} else {
+					bestNeighbor.addTabuRejection();
+				}
+			}
+
+			bestNeighbor.addVisitedNeighbors(nbQueens - 1 - x);
+		}
+	}
 
-					// Apply local transformation (= switch two columns)
-					temp = neighbor[x];
-					neighbor[x] = neighbor[y];
-					neighbor[y] = temp;
+	/**
+	 * Evaluate the neighbors of the conflicted queens (without duplicating the state) and get the best one according to the current state of a board and the neighborhood.
+	 * 
+	 * @param board
+	 *            The board of the current state.
+	 * @param tabuList
+	 *            The tabu list.
+	 * @param conflictedQueens
+	 *            The conflicted queens (the queens which aren't attacked anymore are removed).
+	 * @param bestNeighbor
+	 *            The best neighbor which will be overridden.
+	 * @return The best neighbor (it doesn't exist if there's no conflict or all transformations are forbidden).
+	 */
+	BestNeighbor getBestConflictedNeighbor(DiagonalConflictBoard board, TabuList tabuList, ConflictedQueenSet conflictedQueens, BestNeighbor bestNeighbor) {
+		bestNeighbor.reset();
+
+		if (conflictedQueens.isEmpty()) {
+			conflictedQueens.rebuild(board);
+		}
+
+		final int nbQueens = board.getNbQueens();
+		final long fX = board.getExactFitness();
+		final boolean firstImprovement = this.neighborhood == Neighborhood.FIRST_IMPROVEMENT;
+		final boolean sampled = this.neighborhood == Neighborhood.SAMPLED_CONFLICTED;
+		final int nbColumns = sampled ? this.nbSamples : nbQueens;
+
+		int x;
+		int y;
+		long fNeighbor;
+		long nbVisitedNeighbors = 0;
+
+		// Backwards, so a removed queen is replaced by an already scanned one
+		for (int offset = conflictedQueens.size() - 1; offset >= 0; offset--) {
+			x = conflictedQueens.get(offset);
+			if (!board.isAttacked(x)) {
+				conflictedQueens.remove(x);
+				continue;
+			}
+
+			for (int column = 0; column < nbColumns; column++) {
+				if (sampled) {
+					y = this.randomizer.nextInt(nbQueens - 1);
+					if (y >= x) {
+						y++;
+					}
+				} else {
+					// A switch of two conflicted queens is only evaluated with the lowest one
+					y = column;
+					if (y == x || (y < x && conflictedQueens.contains(y) && board.isAttacked(y))) {
+						continue;
+					}
+				}
 
+				nbVisitedNeighbors++;
+				if (tabuList.isValidTransformation(x, y)) {
 					// Check if it's the best neighbor we have ever met
-					fNeighbor = fitness(neighbor);
-					if (fNeighbor < fBestNeighbor) {
-						bestNeighbor = neighbor;
-						fBestNeighbor = fNeighbor;
-						bestNeighborTransformation = new int[] { x, y };
-
-						if (fBestNeighbor == 0) {
-							return new LocalTabuSearchSolution(bestNeighbor, fBestNeighbor, bestNeighborTransformation);
+					fNeighbor = fX + board.deltaForSwap(x, y);
+					if (fNeighbor < bestNeighbor.getFitness()) {
+						bestNeighbor.set(x, y, fNeighbor);
+
+						if (fNeighbor == 0 || (firstImprovement && fNeighbor < fX)) {
+							bestNeighbor.addVisitedNeighbors(nbVisitedNeighbors);
+							return bestNeighbor;
 						}
 					}
+				} else {
+					bestNeighbor.addTabuRejection();
 				}
 			}
 		}
 
-		return bestNeighbor == null ? null : new LocalTabuSearchSolution(bestNeighbor, fBestNeighbor, bestNeighborTransformation);
+		bestNeighbor.addVisitedNeighbors(nbVisitedNeighbors);
+		return bestNeighbor;
+	}
+
+	/**
+	 * Update the conflicted queens after a switch: the switched queens after an improving switch, else all the queens.
+	 * 
+	 * @param board
+	 *            The board (the switch is applied).
+	 * @param conflictedQueens
+	 *            The conflicted queens.
+	 * @param bestNeighbor
+	 *            The applied switch.
+	 * @param delta
+	 *            The variation of the fitness value.
+	 */
+	private static void updateConflictedQueens(DiagonalConflictBoard board, ConflictedQueenSet conflictedQueens, BestNeighbor bestNeighbor, int delta) {
+		if (delta >= 0) {
+			conflictedQueens.rebuild(board);
+			return;
+		}
+
+		updateConflictedQueen(board, conflictedQueens, bestNeighbor.getX());
+		updateConflictedQueen(board, conflictedQueens, bestNeighbor.getY());
+	}
+
+	/**
+	 * Add or remove a queen from the conflicted queens according to the board.
+	 *
+	 * @param board
+	 *            The board.
+	 * @param conflictedQueens
+	 *            The conflicted queens.
+	 * @param column
+	 *            The column of the queen.
+	 */
+	private static void updateConflictedQueen(DiagonalConflictBoard board, ConflictedQueenSet conflictedQueens, int column) {
+		if (board.isAttacked(column)) {
+			conflictedQueens.add(column);
+		} else {
+			conflictedQueens.remove(column);
+		}
 	}
 }
\ No newline at end of file
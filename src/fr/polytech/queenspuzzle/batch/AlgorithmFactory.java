@@ -0,0 +1,148 @@
+package fr.polytech.queenspuzzle.batch;
+
+import java.util.Locale;
+
+import fr.polytech.queenspuzzle.GreedyInitialStateQueenPuzzleProblemSolver;
+import fr.polytech.queenspuzzle.QueenPuzzleProblemSolver;
+import fr.polytech.queenspuzzle.RandomDiagonalInitialStateQueenPuzzleProblemSolver;
+import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.algorithms.geneticsearch.GeneticSearchQueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.algorithms.geneticsearch.PermutationGeneticSearchQueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.algorithms.minconflictssearch.MinConflictsSearchQueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.algorithms.simulatedannealingsearch.SimulatedAnnealingSearchQueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.algorithms.simulatedannealingsearch.SimulatedAnnealingSearchQueenPuzzleAlgorithmSolverBis;
+import fr.polytech.queenspuzzle.algorithms.tabusearch.TabuSearchQueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.algorithms.tabusearch.TabuSearchQueenPuzzleAlgorithmSolver.Neighborhood;
+import fr.polytech.queenspuzzle.randomizers.Randomizer;
+import fr.polytech.queenspuzzle.randomizers.SplittableRandomizer;
+
+/**
+ * This class represents the factory of the queen puzzle algorithm solvers of the batch jobs, whose parameters default to the ones of the launcher.
+ *
+ * The algorithms which run on their own executor service (parallel tempering, island model) aren't available, the batch already runs the jobs in parallel.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class AlgorithmFactory {
+
+	/**
+	 * The name of the tabu search.
+	 */
+	public static final String TABU_SEARCH = "tabu";
+
+	/**
+	 * The name of the simulated annealing search.
+	 */
+	public static final String SIMULATED_ANNEALING_SEARCH = "sa";
+
+	/**
+	 * The name of the simulated annealing search bis.
+	 */
+	public static final String SIMULATED_ANNEALING_SEARCH_BIS = "sabis";
+
+	/**
+	 * The name of the genetic search.
+	 */
+	public static final String GENETIC_SEARCH = "ga";
+
+	/**
+	 * The name of the genetic search on permutations.
+	 */
+	public static final String PERMUTATION_GENETIC_SEARCH = "permutation-ga";
+
+	/**
+	 * The name of the min-conflicts search.
+	 */
+	public static final String MIN_CONFLICTS_SEARCH = "min-conflicts";
+
+	/**
+	 * The key of the neighborhood of the tabu search (all, conflicted, sampled-conflicted or first-improvement).
+	 */
+	public static final String NEIGHBORHOOD = "neighborhood";
+
+	/**
+	 * The key of the initial state of a job (random-diagonal or greedy).
+	 */
+	public static final String INITIAL_STATE = "initialState";
+
+	/**
+	 * The name of the random diagonal initial state.
+	 */
+	public static final String RANDOM_DIAGONAL_INITIAL_STATE = "random-diagonal";
+
+	/**
+	 * The name of the greedy initial state.
+	 */
+	public static final String GREEDY_INITIAL_STATE = "greedy";
+
+	/**
+	 * Create the queen puzzle problem solver of a job, from a random diagonal or greedy initial state (seeded with the seed of the job if any).
+	 * 
+	 * @param jobSpec
+	 *            The job specification.
+	 * @return The queen puzzle problem solver.
+	 */
+	public QueenPuzzleProblemSolver createProblemSolver(JobSpec jobSpec) {
+		final Randomizer randomizer = jobSpec.hasSeed() ? new SplittableRandomizer(jobSpec.getSeed()) : new SplittableRandomizer();
+		final QueenPuzzleAlgorithmSolver algorithm = create(jobSpec, randomizer.split());
+
+		final String initialState = jobSpec.getValues().getOrDefault(INITIAL_STATE, RANDOM_DIAGONAL_INITIAL_STATE);
+		switch (initialState) {
+			case RANDOM_DIAGONAL_INITIAL_STATE:
+				return new RandomDiagonalInitialStateQueenPuzzleProblemSolver(jobSpec.getNbQueens(), algorithm, randomizer.split());
+			case GREEDY_INITIAL_STATE:
+				return new GreedyInitialStateQueenPuzzleProblemSolver(jobSpec.getNbQueens(), algorithm, randomizer.split());
+			default:
+				throw new IllegalArgumentException("The initial state " + initialState + " is unknown.");
+		}
+	}
+
+	/**
+	 * Create the queen puzzle algorithm solver of a job.
+	 * 
+	 * @param jobSpec
+	 *            The job specification.
+	 * @param randomizer
+	 *            The randomizer of the algorithm.
+	 * @return The queen puzzle algorithm solver.
+	 */
+	public QueenPuzzleAlgorithmSolver create(JobSpec jobSpec, Randomizer randomizer) {
+		switch (jobSpec.getAlgorithm()) {
+			case TABU_SEARCH:
+				return new TabuSearchQueenPuzzleAlgorithmSolver(jobSpec.getInt("tabuListSize", 15), jobSpec.getInt("nbMaxIterations", 200), getNeighborhood(jobSpec), jobSpec.getInt("nbSamples", 32), randomizer);
+			case SIMULATED_ANNEALING_SEARCH:
+				return new SimulatedAnnealingSearchQueenPuzzleAlgorithmSolver(jobSpec.getDouble("acceptanceProbability", 0.5), jobSpec.getDouble("descentProbability", 0.001), jobSpec.getInt("nbMaxMoves", 6), jobSpec.getDouble("u", 0.95), randomizer);
+			case SIMULATED_ANNEALING_SEARCH_BIS:
+				return new SimulatedAnnealingSearchQueenPuzzleAlgorithmSolverBis(jobSpec.getInt("temperature", 7), jobSpec.getDouble("threshold", 0.000001), jobSpec.getDouble("u", 0.9997), randomizer);
+			case GENETIC_SEARCH:
+				return new GeneticSearchQueenPuzzleAlgorithmSolver(jobSpec.getInt("nbGenerations", 1000), jobSpec.getDouble("crossoverAcceptanceProbability", 0.800), jobSpec.getInt("populationSize", 100), jobSpec.getInt("nbBest", 35), randomizer);
+			case PERMUTATION_GENETIC_SEARCH:
+				return new PermutationGeneticSearchQueenPuzzleAlgorithmSolver(jobSpec.getInt("nbGenerations", 1000), jobSpec.getDouble("crossoverAcceptanceProbability", 0.800), jobSpec.getInt("populationSize", 100), jobSpec.getInt("nbBest", 35), randomizer);
+			case MIN_CONFLICTS_SEARCH:
+				return new MinConflictsSearchQueenPuzzleAlgorithmSolver(jobSpec.getInt("nbMaxIterations", 10000000), jobSpec.getInt("nbSamples", 32), jobSpec.getDouble("noiseProbability", 0.05), randomizer);
+			default:
+				throw new IllegalArgumentException("The algorithm " + jobSpec.getAlgorithm() + " is unknown.");
+		}
+	}
+
+	/**
+	 * Get the neighborhood of the tabu search of a job (all the switches by default).
+	 * 
+	 * @param jobSpec
+	 *            The job specification.
+	 * @return The neighborhood.
+	 */
+	private static Neighborhood getNeighborhood(JobSpec jobSpec) {
+		final String value = jobSpec.getValues().get(NEIGHBORHOOD);
+		if (value == null) {
+			return Neighborhood.ALL;
+		}
+
+		try {
+			return Neighborhood.valueOf(value.toUpperCase(Locale.ROOT).replace('-', '_'));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("The neighborhood " + value + " is unknown.", e);
+		}
+	}
+}
\ No newline at end of file
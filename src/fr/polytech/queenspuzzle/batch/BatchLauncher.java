@@ -0,0 +1,135 @@
+package fr.polytech.queenspuzzle.batch;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import fr.polytech.queenspuzzle.metrics.SolverMetrics;
+
+/**
+ * This class represents the launcher of the batch mode.
+ *
+ * Usage: <code>BatchLauncher &lt;jobs file or - for stdin&gt; &lt;results file&gt; [nb workers]</code>. The results are appended to the results file, and the jobs which have already succeeded in it are skipped (the failed ones are run again).
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class BatchLauncher {
+
+	/**
+	 * The number of in-flight jobs per worker.
+	 */
+	public static final int NB_IN_FLIGHT_JOBS_PER_WORKER = 2;
+
+	/**
+	 * The entry of the batch mode.
+	 * 
+	 * @param args
+	 *            The jobs file (- for stdin), the results file and the optional number of workers.
+	 * @throws IOException
+	 *             If the jobs can't be read or the results can't be written.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Usage: BatchLauncher <jobs file or - for stdin> <results file> [nb workers]");
+			System.exit(1);
+		}
+
+		final Path resultsPath = Paths.get(args[1]);
+		final int nbWorkers = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+		// The solver metrics are exposed over JMX for the lifetime of the batch
+		SolverMetrics.register();
+
+		final Set<String> completedIds = readCompletedIds(resultsPath);
+		if (!completedIds.isEmpty()) {
+			System.out.println("Resume: " + completedIds.size() + " jobs already done.");
+		}
+
+		final long startTime = System.currentTimeMillis();
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(nbWorkers);
+		try (BufferedReader jobs = openJobs(args[0]); Writer results = openResults(resultsPath)) {
+			final long nbRunJobs = new BatchRunner(executorService, NB_IN_FLIGHT_JOBS_PER_WORKER * nbWorkers).run(jobs, results, completedIds);
+			System.out.println("Nb run jobs: " + nbRunJobs);
+		} finally {
+			executorService.shutdown();
+		}
+
+		System.out.println("Elapsed time: " + (System.currentTimeMillis() - startTime) + "ms");
+	}
+
+	/**
+	 * Open the input of the job specifications.
+	 * 
+	 * @param jobsFile
+	 *            The jobs file (- for stdin).
+	 * @return The input.
+	 * @throws IOException
+	 *             If the file can't be opened.
+	 */
+	private static BufferedReader openJobs(String jobsFile) throws IOException {
+		if ("-".equals(jobsFile)) {
+			return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+		}
+
+		return Files.newBufferedReader(Paths.get(jobsFile), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Read the identifiers of the jobs already in the results file.
+	 * 
+	 * @param resultsPath
+	 *            The results file.
+	 * @return The identifiers.
+	 * @throws IOException
+	 *             If the file can't be read.
+	 */
+	private static Set<String> readCompletedIds(Path resultsPath) throws IOException {
+		if (!Files.exists(resultsPath)) {
+			return Collections.emptySet();
+		}
+
+		try (BufferedReader results = Files.newBufferedReader(resultsPath, StandardCharsets.UTF_8)) {
+			return BatchRunner.readCompletedIds(results);
+		}
+	}
+
+	/**
+	 * Open the results file in append mode, after ending a record truncated by an interruption.
+	 * 
+	 * @param resultsPath
+	 *            The results file.
+	 * @return The output.
+	 * @throws IOException
+	 *             If the file can't be opened.
+	 */
+	private static Writer openResults(Path resultsPath) throws IOException {
+		boolean truncated = false;
+		if (Files.exists(resultsPath) && Files.size(resultsPath) > 0) {
+			try (RandomAccessFile file = new RandomAccessFile(resultsPath.toFile(), "r")) {
+				file.seek(file.length() - 1);
+				truncated = file.read() != '\n';
+			}
+		}
+
+		final BufferedWriter results = Files.newBufferedWriter(resultsPath, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		if (truncated) {
+			results.write('\n');
+		}
+
+		return results;
+	}
+}
\ No newline at end of file
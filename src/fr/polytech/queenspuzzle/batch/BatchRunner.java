@@ -0,0 +1,226 @@
+package fr.polytech.queenspuzzle.batch;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import fr.polytech.queenspuzzle.QueenPuzzleProblemSolver;
+import fr.polytech.queenspuzzle.algorithms.CancellationToken;
+import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
+
+/**
+ * This class represents a batch runner, which streams job specifications in and streams their results out.
+ *
+ * The jobs are read one line at a time and only submitted when one of the in-flight permits is available, so the memory stays flat whatever the number of jobs. Each result is written and flushed as soon as its job ends (in completion order), so an interrupted batch can be resumed by skipping the identifiers of the succeeded jobs of its output.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class BatchRunner {
+
+	/**
+	 * The executor service which runs the jobs.
+	 */
+	private final ExecutorService executorService;
+
+	/**
+	 * The maximal number of jobs submitted but not ended.
+	 */
+	private final int nbMaxInFlightJobs;
+
+	/**
+	 * The factory of the algorithms.
+	 */
+	private final AlgorithmFactory algorithmFactory;
+
+	/**
+	 * Create a batch runner.
+	 * 
+	 * @param executorService
+	 *            The executor service which runs the jobs.
+	 * @param nbMaxInFlightJobs
+	 *            The maximal number of jobs submitted but not ended (a small multiple of the number of threads of the executor service).
+	 */
+	public BatchRunner(ExecutorService executorService, int nbMaxInFlightJobs) {
+		this(executorService, nbMaxInFlightJobs, new AlgorithmFactory());
+	}
+
+	/**
+	 * Create a batch runner.
+	 * 
+	 * @param executorService
+	 *            The executor service which runs the jobs.
+	 * @param nbMaxInFlightJobs
+	 *            The maximal number of jobs submitted but not ended (a small multiple of the number of threads of the executor service).
+	 * @param algorithmFactory
+	 *            The factory of the algorithms.
+	 */
+	public BatchRunner(ExecutorService executorService, int nbMaxInFlightJobs, AlgorithmFactory algorithmFactory) {
+		this.executorService = executorService;
+		this.nbMaxInFlightJobs = nbMaxInFlightJobs;
+		this.algorithmFactory = algorithmFactory;
+	}
+
+	/**
+	 * Run the jobs of an input, and write their results (an invalid line gets an error record without identifier).
+	 * 
+	 * @param jobs
+	 *            The input of the job specifications (one per line).
+	 * @param results
+	 *            The output of the results (one record per line).
+	 * @param skippedIds
+	 *            The identifiers of the jobs to skip (the ones already in the output of an interrupted batch).
+	 * @return The number of run jobs.
+	 * @throws IOException
+	 *             If the jobs can't be read or the results can't be written.
+	 */
+	public long run(BufferedReader jobs, Writer results, Set<String> skippedIds) throws IOException {
+		final Semaphore inFlightJobs = new Semaphore(this.nbMaxInFlightJobs);
+		final CancellationToken cancellationToken = new CancellationToken();
+		final AtomicReference<IOException> writeError = new AtomicReference<IOException>();
+
+		long nbRunJobs = 0;
+		boolean ended = false;
+		try {
+			String line;
+			JobSpec jobSpec;
+			for (int lineNumber = 1; (line = jobs.readLine()) != null && writeError.get() == null; lineNumber++) {
+				try {
+					jobSpec = JobSpec.parse(line);
+				} catch (IllegalArgumentException e) {
+					// An invalid line doesn't stop the other jobs
+					writeResult(results, new JobResult("The line " + lineNumber + " isn't a valid job specification: " + e.getMessage()));
+					continue;
+				}
+
+				if (jobSpec == null || skippedIds.contains(jobSpec.getId())) {
+					continue;
+				}
+
+				// Wait for a job to end before reading further
+				inFlightJobs.acquire();
+
+				final JobSpec submittedJobSpec = jobSpec;
+				try {
+					this.executorService.execute(() -> {
+						try {
+							final JobResult result = runJob(submittedJobSpec, cancellationToken);
+							if (!cancellationToken.isCancelled()) {
+								writeResult(results, result);
+							}
+						} catch (IOException e) {
+							writeError.compareAndSet(null, e);
+							cancellationToken.cancel();
+						} finally {
+							inFlightJobs.release();
+						}
+					});
+				} catch (RuntimeException e) {
+					inFlightJobs.release();
+					throw e;
+				}
+
+				nbRunJobs++;
+			}
+
+			// Wait for the last jobs
+			inFlightJobs.acquire(this.nbMaxInFlightJobs);
+			ended = true;
+		} catch (IOException e) {
+			cancellationToken.cancel();
+			throw e;
+		} catch (InterruptedException e) {
+			// The results of the cancelled jobs aren't written, so they are run again when the batch is resumed
+			cancellationToken.cancel();
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("The batch has been interrupted.", e);
+		} finally {
+			if (!ended) {
+				inFlightJobs.acquireUninterruptibly(this.nbMaxInFlightJobs);
+			}
+		}
+
+		if (writeError.get() != null) {
+			throw writeError.get();
+		}
+
+		return nbRunJobs;
+	}
+
+	/**
+	 * Run a job.
+	 * 
+	 * @param jobSpec
+	 *            The job specification.
+	 * @param cancellationToken
+	 *            The cancellation token of the batch.
+	 * @return The result of the job (a failed result if the job has thrown an exception).
+	 */
+	JobResult runJob(JobSpec jobSpec, CancellationToken cancellationToken) {
+		long startTime = System.nanoTime();
+		try {
+			final QueenPuzzleProblemSolver solver = this.algorithmFactory.createProblemSolver(jobSpec);
+
+			final long timeBudget = jobSpec.getTimeBudget();
+			final CancellationToken jobCancellationToken = timeBudget == JobSpec.NO_TIME_BUDGET ? cancellationToken : CancellationToken.withDeadline(cancellationToken, timeBudget, TimeUnit.MILLISECONDS);
+
+			startTime = System.nanoTime();
+			final AdvancedSolution solution = solver.solve(jobCancellationToken);
+
+			return new JobResult(jobSpec, solution, System.nanoTime() - startTime);
+		} catch (RuntimeException e) {
+			return new JobResult(jobSpec, e.toString(), System.nanoTime() - startTime);
+		}
+	}
+
+	/**
+	 * Write the record of a result, and flush it so it survives an interruption of the batch.
+	 * 
+	 * @param results
+	 *            The output of the results.
+	 * @param result
+	 *            The result.
+	 * @throws IOException
+	 *             If the result can't be written.
+	 */
+	private static void writeResult(Writer results, JobResult result) throws IOException {
+		final String record = result.toJson();
+		synchronized (results) {
+			results.write(record);
+			results.write('\n');
+			results.flush();
+		}
+	}
+
+	/**
+	 * Read the identifiers of the jobs which have succeeded in the output of a previous batch (the truncated records are ignored).
+	 *
+	 * The failed jobs are run again when the batch is resumed, so their new record is appended after their error record.
+	 * 
+	 * @param results
+	 *            The output of the previous batch.
+	 * @return The identifiers.
+	 * @throws IOException
+	 *             If the output can't be read.
+	 */
+	public static Set<String> readCompletedIds(BufferedReader results) throws IOException {
+		final Set<String> completedIds = new HashSet<String>();
+
+		String line;
+		String id;
+		while ((line = results.readLine()) != null) {
+			id = JobResult.readId(line);
+			if (id != null && !JobResult.isFailed(line)) {
+				completedIds.add(id);
+			}
+		}
+
+		return completedIds;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,273 @@
+package fr.polytech.queenspuzzle.batch;
+
+import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
+
+/**
+ * This class represents the result of a batch job, written as a single line JSON record.
+ *
+ * The identifier is always the first member of the record and the error follows the number of queens, so the identifiers of an output and the failures can be read back without a JSON parser.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class JobResult {
+
+	/**
+	 * The beginning of every record.
+	 */
+	private static final String ID_PREFIX = "{\"id\":\"";
+
+	/**
+	 * The member of the error of a failed job.
+	 */
+	private static final String ERROR_MEMBER = ",\"error\":";
+
+	/**
+	 * The identifier of the job.
+	 */
+	private final String id;
+
+	/**
+	 * The algorithm name (null if the job has failed).
+	 */
+	private final String algorithm;
+
+	/**
+	 * The number of queens.
+	 */
+	private final int nbQueens;
+
+	/**
+	 * The solution (null if the job has failed).
+	 */
+	private final AdvancedSolution solution;
+
+	/**
+	 * The elapsed time (in nanoseconds).
+	 */
+	private final long elapsedTime;
+
+	/**
+	 * The error (null if the job has succeeded).
+	 */
+	private final String error;
+
+	/**
+	 * Create the result of a succeeded job.
+	 * 
+	 * @param jobSpec
+	 *            The job specification.
+	 * @param solution
+	 *            The solution.
+	 * @param elapsedTime
+	 *            The elapsed time (in nanoseconds).
+	 */
+	public JobResult(JobSpec jobSpec, AdvancedSolution solution, long elapsedTime) {
+		this.id = jobSpec.getId();
+		this.algorithm = jobSpec.getAlgorithm();
+		this.nbQueens = jobSpec.getNbQueens();
+		this.solution = solution;
+		this.elapsedTime = elapsedTime;
+		this.error = null;
+	}
+
+	/**
+	 * Create the result of a failed job.
+	 * 
+	 * @param jobSpec
+	 *            The job specification.
+	 * @param error
+	 *            The error.
+	 * @param elapsedTime
+	 *            The elapsed time (in nanoseconds).
+	 */
+	public JobResult(JobSpec jobSpec, String error, long elapsedTime) {
+		this.id = jobSpec.getId();
+		this.algorithm = jobSpec.getAlgorithm();
+		this.nbQueens = jobSpec.getNbQueens();
+		this.solution = null;
+		this.elapsedTime = elapsedTime;
+		this.error = error;
+	}
+
+	/**
+	 * Create the result of an invalid job specification (without identifier).
+	 * 
+	 * @param error
+	 *            The error.
+	 */
+	public JobResult(String error) {
+		this.id = null;
+		this.algorithm = null;
+		this.nbQueens = 0;
+		this.solution = null;
+		this.elapsedTime = 0;
+		this.error = error;
+	}
+
+	/**
+	 * Get the identifier of the job.
+	 * 
+	 * @return The identifier (null if the job specification is invalid).
+	 */
+	public String getId() {
+		return this.id;
+	}
+
+	/**
+	 * Get the solution.
+	 * 
+	 * @return The solution (null if the job has failed).
+	 */
+	public AdvancedSolution getSolution() {
+		return this.solution;
+	}
+
+	/**
+	 * Get the elapsed time.
+	 * 
+	 * @return The elapsed time (in nanoseconds).
+	 */
+	public long getElapsedTime() {
+		return this.elapsedTime;
+	}
+
+	/**
+	 * Get the error.
+	 * 
+	 * @return The error (null if the job has succeeded).
+	 */
+	public String getError() {
+		return this.error;
+	}
+
+	/**
+	 * Write the record of the result (without line separator).
+	 * 
+	 * @return The record.
+	 */
+	public String toJson() {
+		final StringBuilder json = new StringBuilder(64 + (this.solution == null ? 0 : 8 * this.nbQueens));
+		json.append("{\"id\":");
+		appendString(json, this.id);
+		json.append(",\"algorithm\":");
+		appendString(json, this.algorithm);
+		json.append(",\"nbQueens\":").append(this.nbQueens);
+
+		if (this.solution == null) {
+			json.append(ERROR_MEMBER);
+			appendString(json, this.error);
+		} else {
+			json.append(",\"fitness\":").append(this.solution.getFitness());
+			json.append(",\"nbIterations\":").append(this.solution.getNbIterations());
+			json.append(",\"completed\":").append(this.solution.isCompleted());
+		}
+
+		json.append(",\"elapsedTime\":").append(this.elapsedTime);
+
+		if (this.solution != null) {
+			final int[] state = this.solution.getState();
+			json.append(",\"state\":[");
+			for (int offset = 0; offset < state.length; offset++) {
+				if (offset > 0) {
+					json.append(',');
+				}
+				json.append(state[offset]);
+			}
+			json.append(']');
+		}
+
+		return json.append('}').toString();
+	}
+
+	/**
+	 * Read the identifier of a record.
+	 * 
+	 * @param record
+	 *            The record.
+	 * @return The identifier (unescaped), or null if the record is truncated, has no identifier or isn't a record of a result.
+	 */
+	public static String readId(String record) {
+		if (!record.startsWith(ID_PREFIX) || !record.endsWith("}")) {
+			return null;
+		}
+
+		final StringBuilder id = new StringBuilder();
+		char character;
+		for (int offset = ID_PREFIX.length(); offset < record.length(); offset++) {
+			character = record.charAt(offset);
+			if (character == '"') {
+				return id.toString();
+			}
+
+			// Unescape the characters escaped by appendString
+			if (character == '\\' && offset + 1 < record.length()) {
+				character = record.charAt(++offset);
+				if (character == 'u') {
+					if (offset + 4 >= record.length()) {
+						return null;
+					}
+
+					try {
+						character = (char) Integer.parseInt(record.substring(offset + 1, offset + 5), 16);
+					} catch (NumberFormatException e) {
+						return null;
+					}
+					offset += 4;
+				}
+			}
+
+			id.append(character);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Check if a record is the record of a failed job (an escaped string can't contain the error member, as its quotes are escaped).
+	 * 
+	 * @param record
+	 *            The record.
+	 * @return True if the job has failed, else False.
+	 */
+	public static boolean isFailed(String record) {
+		return record.contains(ERROR_MEMBER);
+	}
+
+	/**
+	 * Append a JSON string.
+	 * 
+	 * @param json
+	 *            The JSON being written.
+	 * @param value
+	 *            The value of the string (null is written as null).
+	 */
+	private static void appendString(StringBuilder json, String value) {
+		if (value == null) {
+			json.append("null");
+			return;
+		}
+
+		json.append('"');
+		char character;
+		for (int offset = 0; offset < value.length(); offset++) {
+			character = value.charAt(offset);
+			if (character == '"' || character == '\\') {
+				json.append('\\').append(character);
+			} else if (character < ' ') {
+				json.append(String.format("\\u%04x", (int) character));
+			} else {
+				json.append(character);
+			}
+		}
+		json.append('"');
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "JobResult [id=" + this.id + ", algorithm=" + this.algorithm + ", nbQueens=" + this.nbQueens + ", solution=" + this.solution + ", elapsedTime=" + this.elapsedTime + ", error=" + this.error + "]";
+	}
+}
\ No newline at end of file
@@ -0,0 +1,267 @@
+package fr.polytech.queenspuzzle.batch;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class represents the specification of a batch job, read from a line of whitespace separated key=value pairs.
+ *
+ * The keys id, algorithm and n (the number of queens) are required; seed and timeBudget (in milliseconds) are optional, and the other keys are the parameters of the algorithm. For instance:
+ * 
+ * <pre>
+ * id=tabu-300-1 algorithm=tabu n=300 seed=1 tabuListSize=15 nbMaxIterations=200
+ * </pre>
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class JobSpec {
+
+	/**
+	 * The key of the identifier.
+	 */
+	public static final String ID = "id";
+
+	/**
+	 * The key of the algorithm name.
+	 */
+	public static final String ALGORITHM = "algorithm";
+
+	/**
+	 * The key of the number of queens.
+	 */
+	public static final String NB_QUEENS = "n";
+
+	/**
+	 * The key of the seed.
+	 */
+	public static final String SEED = "seed";
+
+	/**
+	 * The key of the time budget (in milliseconds).
+	 */
+	public static final String TIME_BUDGET = "timeBudget";
+
+	/**
+	 * The value of the time budget when there is no time budget.
+	 */
+	public static final long NO_TIME_BUDGET = -1;
+
+	/**
+	 * The identifier.
+	 */
+	private final String id;
+
+	/**
+	 * The algorithm name.
+	 */
+	private final String algorithm;
+
+	/**
+	 * The number of queens.
+	 */
+	private final int nbQueens;
+
+	/**
+	 * The values of all keys (in their order of appearance).
+	 */
+	private final Map<String, String> values;
+
+	/**
+	 * Create a job specification.
+	 * 
+	 * @param values
+	 *            The values of all keys.
+	 */
+	public JobSpec(Map<String, String> values) {
+		this.values = Collections.unmodifiableMap(new LinkedHashMap<String, String>(values));
+		this.id = getRequired(ID);
+		this.algorithm = getRequired(ALGORITHM);
+		this.nbQueens = getInt(NB_QUEENS, 0);
+
+		if (this.nbQueens < 1) {
+			throw new IllegalArgumentException("The number of queens of the job " + this.id + " must be positive.");
+		}
+	}
+
+	/**
+	 * Parse a job specification.
+	 * 
+	 * @param line
+	 *            The line.
+	 * @return The job specification, or null if the line is blank or a comment (starting with #).
+	 */
+	public static JobSpec parse(String line) {
+		final String trimmedLine = line.trim();
+		if (trimmedLine.isEmpty() || trimmedLine.startsWith("#")) {
+			return null;
+		}
+
+		final Map<String, String> values = new LinkedHashMap<String, String>();
+		int separator;
+		for (String pair : trimmedLine.split("\\s+")) {
+			separator = pair.indexOf('=');
+			if (separator <= 0) {
+				throw new IllegalArgumentException("The pair " + pair + " isn't a key=value pair.");
+			}
+
+			values.put(pair.substring(0, separator), pair.substring(separator + 1));
+		}
+
+		return new JobSpec(values);
+	}
+
+	/**
+	 * Get the identifier.
+	 * 
+	 * @return The identifier.
+	 */
+	public String getId() {
+		return this.id;
+	}
+
+	/**
+	 * Get the algorithm name.
+	 * 
+	 * @return The algorithm name.
+	 */
+	public String getAlgorithm() {
+		return this.algorithm;
+	}
+
+	/**
+	 * Get the number of queens.
+	 * 
+	 * @return The number of queens.
+	 */
+	public int getNbQueens() {
+		return this.nbQueens;
+	}
+
+	/**
+	 * Check if the job has a seed.
+	 * 
+	 * @return True if the job has a seed, else False.
+	 */
+	public boolean hasSeed() {
+		return this.values.containsKey(SEED);
+	}
+
+	/**
+	 * Get the seed.
+	 * 
+	 * @return The seed (0 if the job has no seed).
+	 */
+	public long getSeed() {
+		return getLong(SEED, 0);
+	}
+
+	/**
+	 * Get the time budget.
+	 * 
+	 * @return The time budget (in milliseconds), or {@link #NO_TIME_BUDGET}.
+	 */
+	public long getTimeBudget() {
+		return getLong(TIME_BUDGET, NO_TIME_BUDGET);
+	}
+
+	/**
+	 * Get the values of all keys.
+	 * 
+	 * @return The values (unmodifiable).
+	 */
+	public Map<String, String> getValues() {
+		return this.values;
+	}
+
+	/**
+	 * Get the value of a required key.
+	 * 
+	 * @param key
+	 *            The key.
+	 * @return The value.
+	 */
+	public String getRequired(String key) {
+		final String value = this.values.get(key);
+		if (value == null || value.isEmpty()) {
+			throw new IllegalArgumentException("The key " + key + " is missing.");
+		}
+
+		return value;
+	}
+
+	/**
+	 * Get the value of a key as an integer.
+	 * 
+	 * @param key
+	 *            The key.
+	 * @param defaultValue
+	 *            The value if the key is missing.
+	 * @return The value.
+	 */
+	public int getInt(String key, int defaultValue) {
+		final String value = this.values.get(key);
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("The value of the key " + key + " isn't an integer: " + value + ".", e);
+		}
+	}
+
+	/**
+	 * Get the value of a key as a long.
+	 * 
+	 * @param key
+	 *            The key.
+	 * @param defaultValue
+	 *            The value if the key is missing.
+	 * @return The value.
+	 */
+	public long getLong(String key, long defaultValue) {
+		final String value = this.values.get(key);
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("The value of the key " + key + " isn't an integer: " + value + ".", e);
+		}
+	}
+
+	/**
+	 * Get the value of a key as a double.
+	 * 
+	 * @param key
+	 *            The key.
+	 * @param defaultValue
+	 *            The value if the key is missing.
+	 * @return The value.
+	 */
+	public double getDouble(String key, double defaultValue) {
+		final String value = this.values.get(key);
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Double.parseDouble(value);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("The value of the key " + key + " isn't a number: " + value + ".", e);
+		}
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "JobSpec [values=" + this.values + "]";
+	}
+}
\ No newline at end of file
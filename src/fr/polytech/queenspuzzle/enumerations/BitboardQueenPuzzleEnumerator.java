@@ -0,0 +1,111 @@
+package fr.polytech.queenspuzzle.enumerations;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * This class represents an exhaustive queen puzzle enumerator, which counts (and optionally streams) all solutions.
+ *
+ * The occupied lines and diagonals are long bitmasks and the queens are placed by iterating over the lowest set bits. Only the first column's lines of the lower half (and the middle line followed by a lower half line for an odd number of queens) are explored, the other solutions being their mirrors. The subtrees of the first columns are split across a fork/join pool.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class BitboardQueenPuzzleEnumerator {
+
+	/**
+	 * The maximal number of queens (the lines must fit into a long bitmask).
+	 */
+	public static final int MAX_NB_QUEENS = 63;
+
+	/**
+	 * The default number of columns whose subtrees are split across the pool.
+	 */
+	public static final int DEFAULT_SPLIT_DEPTH = 3;
+
+	/**
+	 * The number of queens.
+	 */
+	private final int nbQueens;
+
+	/**
+	 * The number of columns whose subtrees are split across the pool.
+	 */
+	private final int splitDepth;
+
+	/**
+	 * The fork/join pool.
+	 */
+	private final ForkJoinPool forkJoinPool;
+
+	/**
+	 * Create a bitboard queen puzzle enumerator which uses the common pool.
+	 *
+	 * @param nbQueens
+	 *            The number of queens (from 1 to {@value #MAX_NB_QUEENS}).
+	 */
+	public BitboardQueenPuzzleEnumerator(int nbQueens) {
+		this(nbQueens, DEFAULT_SPLIT_DEPTH, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a bitboard queen puzzle enumerator.
+	 *
+	 * @param nbQueens
+	 *            The number of queens (from 1 to {@value #MAX_NB_QUEENS}).
+	 * @param splitDepth
+	 *            The number of columns whose subtrees are split across the pool (at least 2).
+	 * @param forkJoinPool
+	 *            The fork/join pool.
+	 */
+	public BitboardQueenPuzzleEnumerator(int nbQueens, int splitDepth, ForkJoinPool forkJoinPool) {
+		if (nbQueens < 1 || nbQueens > MAX_NB_QUEENS) {
+			throw new IllegalArgumentException("The number of queens must be between 1 and " + MAX_NB_QUEENS + ".");
+		}
+
+		this.nbQueens = nbQueens;
+		this.splitDepth = Math.min(Math.max(splitDepth, 2), nbQueens);
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	/**
+	 * Count all solutions.
+	 *
+	 * @return The number of solutions.
+	 */
+	public long count() {
+		return enumerate(null);
+	}
+
+	/**
+	 * Count all solutions and stream them (offset = column ; value = line).
+	 *
+	 * @param solutions
+	 *            The consumer of the solutions (null to only count them), called concurrently by the pool threads with a new array for each solution.
+	 * @return The number of solutions.
+	 */
+	public long enumerate(Consumer<int[]> solutions) {
+		// A single queen is its own mirror
+		if (this.nbQueens == 1) {
+			if (solutions != null) {
+				solutions.accept(new int[] { 0 });
+			}
+
+			return 1;
+		}
+
+		final long allLines = (1L << this.nbQueens) - 1;
+		final long lowerHalfLines = (1L << (this.nbQueens / 2)) - 1;
+
+		// The first column in the lower half
+		long nbSolutions = this.forkJoinPool.invoke(new BitboardSubtreeTask(this.nbQueens, this.splitDepth, new int[this.nbQueens], 0, 0, 0, 0, lowerHalfLines, allLines, solutions));
+
+		// The first column in the middle, the second one in the lower half
+		if (this.nbQueens % 2 == 1) {
+			final long middleLine = 1L << (this.nbQueens / 2);
+			nbSolutions += this.forkJoinPool.invoke(new BitboardSubtreeTask(this.nbQueens, this.splitDepth, new int[this.nbQueens], 0, 0, 0, 0, middleLine, lowerHalfLines, solutions));
+		}
+
+		return nbSolutions;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,222 @@
+package fr.polytech.queenspuzzle.enumerations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * This class represents a fork/join task which enumerates the solutions of a subtree, given the lines of the queens of the first columns.
+ *
+ * The found solutions are counted twice: once for themselves and once for their mirror (line = nbQueens - 1 - line).
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+class BitboardSubtreeTask extends RecursiveTask<Long> {
+
+	/**
+	 * The serial version UID.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The number of queens.
+	 */
+	private final int nbQueens;
+
+	/**
+	 * The number of columns whose subtrees are split.
+	 */
+	private final int splitDepth;
+
+	/**
+	 * The lines of the queens of the first columns (offset = column ; value = line).
+	 */
+	private final int[] state;
+
+	/**
+	 * The current column.
+	 */
+	private final int column;
+
+	/**
+	 * The occupied lines.
+	 */
+	private final long lines;
+
+	/**
+	 * The occupied up diagonals, shifted to the current column.
+	 */
+	private final long upDiagonals;
+
+	/**
+	 * The occupied down diagonals, shifted to the current column.
+	 */
+	private final long downDiagonals;
+
+	/**
+	 * The allowed lines of the first column.
+	 */
+	private final long firstColumnLines;
+
+	/**
+	 * The allowed lines of the second column.
+	 */
+	private final long secondColumnLines;
+
+	/**
+	 * The consumer of the solutions (null to only count them).
+	 */
+	private final Consumer<int[]> solutions;
+
+	/**
+	 * Create a bitboard subtree task.
+	 *
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param splitDepth
+	 *            The number of columns whose subtrees are split.
+	 * @param state
+	 *            The lines of the queens of the first columns (offset = column ; value = line).
+	 * @param column
+	 *            The current column.
+	 * @param lines
+	 *            The occupied lines.
+	 * @param upDiagonals
+	 *            The occupied up diagonals, shifted to the current column.
+	 * @param downDiagonals
+	 *            The occupied down diagonals, shifted to the current column.
+	 * @param firstColumnLines
+	 *            The allowed lines of the first column.
+	 * @param secondColumnLines
+	 *            The allowed lines of the second column.
+	 * @param solutions
+	 *            The consumer of the solutions (null to only count them).
+	 */
+	public BitboardSubtreeTask(int nbQueens, int splitDepth, int[] state, int column, long lines, long upDiagonals, long downDiagonals, long firstColumnLines, long secondColumnLines, Consumer<int[]> solutions) {
+		this.nbQueens = nbQueens;
+		this.splitDepth = splitDepth;
+		this.state = state;
+		this.column = column;
+		this.lines = lines;
+		this.upDiagonals = upDiagonals;
+		this.downDiagonals = downDiagonals;
+		this.firstColumnLines = firstColumnLines;
+		this.secondColumnLines = secondColumnLines;
+		this.solutions = solutions;
+	}
+
+	@Override
+	protected Long compute() {
+		final long allLines = (1L << this.nbQueens) - 1;
+
+		if (this.column >= this.splitDepth) {
+			return this.solutions == null ? count(this.column, this.lines, this.upDiagonals, this.downDiagonals, allLines) : enumerate(this.state.clone(), this.column, this.lines, this.upDiagonals, this.downDiagonals, allLines);
+		}
+
+		long allowedLines = allLines;
+		if (this.column == 0) {
+			allowedLines = this.firstColumnLines;
+		} else if (this.column == 1) {
+			allowedLines = this.secondColumnLines;
+		}
+
+		// Fork a task for each free line of the current column
+		final List<BitboardSubtreeTask> subtrees = new ArrayList<BitboardSubtreeTask>();
+		long freeLines = ~(this.lines | this.upDiagonals | this.downDiagonals) & allowedLines;
+		long line;
+		int[] subtreeState;
+		while (freeLines != 0) {
+			line = freeLines & -freeLines;
+			freeLines ^= line;
+
+			subtreeState = this.state.clone();
+			subtreeState[this.column] = Long.numberOfTrailingZeros(line);
+			subtrees.add(new BitboardSubtreeTask(this.nbQueens, this.splitDepth, subtreeState, this.column + 1, this.lines | line, ((this.upDiagonals | line) << 1) & allLines, (this.downDiagonals | line) >>> 1, this.firstColumnLines, this.secondColumnLines, this.solutions));
+		}
+
+		long nbSolutions = 0;
+		for (BitboardSubtreeTask subtree : invokeAll(subtrees)) {
+			nbSolutions += subtree.join();
+		}
+
+		return nbSolutions;
+	}
+
+	/**
+	 * Count the solutions (and their mirrors) from a column.
+	 *
+	 * @param column
+	 *            The current column.
+	 * @param lines
+	 *            The occupied lines.
+	 * @param upDiagonals
+	 *            The occupied up diagonals, shifted to the current column.
+	 * @param downDiagonals
+	 *            The occupied down diagonals, shifted to the current column.
+	 * @param allLines
+	 *            The mask of all lines.
+	 * @return The number of solutions.
+	 */
+	private long count(int column, long lines, long upDiagonals, long downDiagonals, long allLines) {
+		if (column == this.nbQueens) {
+			return 2;
+		}
+
+		long nbSolutions = 0;
+		long freeLines = ~(lines | upDiagonals | downDiagonals) & allLines;
+		long line;
+		while (freeLines != 0) {
+			line = freeLines & -freeLines;
+			freeLines ^= line;
+
+			nbSolutions += count(column + 1, lines | line, ((upDiagonals | line) << 1) & allLines, (downDiagonals | line) >>> 1, allLines);
+		}
+
+		return nbSolutions;
+	}
+
+	/**
+	 * Stream and count the solutions (and their mirrors) from a column.
+	 *
+	 * @param state
+	 *            The lines of the queens of the previous columns, completed in place.
+	 * @param column
+	 *            The current column.
+	 * @param lines
+	 *            The occupied lines.
+	 * @param upDiagonals
+	 *            The occupied up diagonals, shifted to the current column.
+	 * @param downDiagonals
+	 *            The occupied down diagonals, shifted to the current column.
+	 * @param allLines
+	 *            The mask of all lines.
+	 * @return The number of solutions.
+	 */
+	private long enumerate(int[] state, int column, long lines, long upDiagonals, long downDiagonals, long allLines) {
+		if (column == this.nbQueens) {
+			final int[] mirror = new int[this.nbQueens];
+			for (int offset = 0; offset < this.nbQueens; offset++) {
+				mirror[offset] = this.nbQueens - 1 - state[offset];
+			}
+
+			this.solutions.accept(state.clone());
+			this.solutions.accept(mirror);
+			return 2;
+		}
+
+		long nbSolutions = 0;
+		long freeLines = ~(lines | upDiagonals | downDiagonals) & allLines;
+		long line;
+		while (freeLines != 0) {
+			line = freeLines & -freeLines;
+			freeLines ^= line;
+
+			state[column] = Long.numberOfTrailingZeros(line);
+			nbSolutions += enumerate(state, column + 1, lines | line, ((upDiagonals | line) << 1) & allLines, (downDiagonals | line) >>> 1, allLines);
+		}
+
+		return nbSolutions;
+	}
+}
\ No newline at end of file
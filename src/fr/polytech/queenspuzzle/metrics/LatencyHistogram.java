@@ -0,0 +1,131 @@
+package fr.polytech.queenspuzzle.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class represents a concurrent histogram of latencies, whose buckets are the powers of 2 of nanoseconds.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+class LatencyHistogram {
+
+	/**
+	 * The number of buckets (the bucket i counts the latencies in [2^i, 2^(i+1)) nanoseconds).
+	 */
+	public static final int NB_BUCKETS = 64;
+
+	/**
+	 * The number of nanoseconds per millisecond.
+	 */
+	private static final double NANOSECONDS_PER_MILLISECOND = 1e6;
+
+	/**
+	 * The name of the algorithm.
+	 */
+	private final String algorithmName;
+
+	/**
+	 * The number of latencies of each bucket.
+	 */
+	private final LongAdder[] buckets;
+
+	/**
+	 * The sum of the latencies.
+	 */
+	private final LongAdder sum;
+
+	/**
+	 * The maximal latency.
+	 */
+	private final LongAccumulator max;
+
+	/**
+	 * Create a latency histogram.
+	 * 
+	 * @param algorithmName
+	 *            The name of the algorithm.
+	 */
+	public LatencyHistogram(String algorithmName) {
+		this.algorithmName = algorithmName;
+		this.buckets = new LongAdder[NB_BUCKETS];
+		for (int bucket = 0; bucket < NB_BUCKETS; bucket++) {
+			this.buckets[bucket] = new LongAdder();
+		}
+
+		this.sum = new LongAdder();
+		this.max = new LongAccumulator(Math::max, 0);
+	}
+
+	/**
+	 * Record a latency.
+	 * 
+	 * @param latency
+	 *            The latency (in nanoseconds).
+	 */
+	public void record(long latency) {
+		final long value = Math.max(latency, 1);
+		this.buckets[63 - Long.numberOfLeadingZeros(value)].increment();
+		this.sum.add(value);
+		this.max.accumulate(value);
+	}
+
+	/**
+	 * Take a snapshot of the histogram.
+	 * 
+	 * @return The snapshot.
+	 */
+	public LatencySnapshot snapshot() {
+		final long[] counts = new long[NB_BUCKETS];
+		long count = 0;
+		for (int bucket = 0; bucket < NB_BUCKETS; bucket++) {
+			counts[bucket] = this.buckets[bucket].sum();
+			count += counts[bucket];
+		}
+
+		final double mean = count == 0 ? 0 : this.sum.sum() / (double) count / NANOSECONDS_PER_MILLISECOND;
+		final double max = this.max.get() / NANOSECONDS_PER_MILLISECOND;
+		return new LatencySnapshot(this.algorithmName, count, mean, Math.min(percentile(counts, count, 0.50), max), Math.min(percentile(counts, count, 0.90), max), Math.min(percentile(counts, count, 0.99), max), max);
+	}
+
+	/**
+	 * Reset the histogram.
+	 */
+	public void reset() {
+		for (LongAdder bucket : this.buckets) {
+			bucket.reset();
+		}
+
+		this.sum.reset();
+		this.max.reset();
+	}
+
+	/**
+	 * Compute a percentile of the latencies, as the upper bound of its bucket.
+	 * 
+	 * @param counts
+	 *            The number of latencies of each bucket.
+	 * @param count
+	 *            The number of latencies.
+	 * @param rank
+	 *            The rank of the percentile (in [0, 1]).
+	 * @return The percentile (in milliseconds).
+	 */
+	private static double percentile(long[] counts, long count, double rank) {
+		if (count == 0) {
+			return 0;
+		}
+
+		final long threshold = (long) Math.ceil(rank * count);
+		long cumulatedCount = 0;
+		for (int bucket = 0; bucket < NB_BUCKETS; bucket++) {
+			cumulatedCount += counts[bucket];
+			if (cumulatedCount >= threshold) {
+				return Math.pow(2, bucket + 1) / NANOSECONDS_PER_MILLISECOND;
+			}
+		}
+
+		return Math.pow(2, NB_BUCKETS) / NANOSECONDS_PER_MILLISECOND;
+	}
+}
\ No newline at end of file
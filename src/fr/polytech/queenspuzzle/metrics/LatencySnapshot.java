@@ -0,0 +1,146 @@
+package fr.polytech.queenspuzzle.metrics;
+
+/**
+ * This class represents a snapshot of the latencies of the solves of an algorithm (in milliseconds).
+ *
+ * The percentiles are the upper bounds of the buckets of the histogram (bounded by the maximal latency), so they are overestimated by a factor 2 at most.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class LatencySnapshot {
+
+	/**
+	 * The name of the algorithm.
+	 */
+	private final String algorithmName;
+
+	/**
+	 * The number of solves.
+	 */
+	private final long count;
+
+	/**
+	 * The mean latency.
+	 */
+	private final double mean;
+
+	/**
+	 * The median latency.
+	 */
+	private final double p50;
+
+	/**
+	 * The 90th percentile of the latencies.
+	 */
+	private final double p90;
+
+	/**
+	 * The 99th percentile of the latencies.
+	 */
+	private final double p99;
+
+	/**
+	 * The maximal latency.
+	 */
+	private final double max;
+
+	/**
+	 * Create a latency snapshot.
+	 * 
+	 * @param algorithmName
+	 *            The name of the algorithm.
+	 * @param count
+	 *            The number of solves.
+	 * @param mean
+	 *            The mean latency.
+	 * @param p50
+	 *            The median latency.
+	 * @param p90
+	 *            The 90th percentile of the latencies.
+	 * @param p99
+	 *            The 99th percentile of the latencies.
+	 * @param max
+	 *            The maximal latency.
+	 */
+	public LatencySnapshot(String algorithmName, long count, double mean, double p50, double p90, double p99, double max) {
+		this.algorithmName = algorithmName;
+		this.count = count;
+		this.mean = mean;
+		this.p50 = p50;
+		this.p90 = p90;
+		this.p99 = p99;
+		this.max = max;
+	}
+
+	/**
+	 * Get the name of the algorithm.
+	 * 
+	 * @return The name of the algorithm.
+	 */
+	public String getAlgorithmName() {
+		return this.algorithmName;
+	}
+
+	/**
+	 * Get the number of solves.
+	 * 
+	 * @return The number of solves.
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Get the mean latency.
+	 * 
+	 * @return The mean latency.
+	 */
+	public double getMean() {
+		return this.mean;
+	}
+
+	/**
+	 * Get the median latency.
+	 * 
+	 * @return The median latency.
+	 */
+	public double getP50() {
+		return this.p50;
+	}
+
+	/**
+	 * Get the 90th percentile of the latencies.
+	 * 
+	 * @return The 90th percentile.
+	 */
+	public double getP90() {
+		return this.p90;
+	}
+
+	/**
+	 * Get the 99th percentile of the latencies.
+	 * 
+	 * @return The 99th percentile.
+	 */
+	public double getP99() {
+		return this.p99;
+	}
+
+	/**
+	 * Get the maximal latency.
+	 * 
+	 * @return The maximal latency.
+	 */
+	public double getMax() {
+		return this.max;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "LatencySnapshot [algorithmName=" + this.algorithmName + ", count=" + this.count + ", mean=" + this.mean + ", p50=" + this.p50 + ", p90=" + this.p90 + ", p99=" + this.p99 + ", max=" + this.max + "]";
+	}
+}
\ No newline at end of file
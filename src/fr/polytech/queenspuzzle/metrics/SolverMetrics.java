@@ -0,0 +1,213 @@
+package fr.polytech.queenspuzzle.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * This class represents the metrics of the queen puzzle algorithm solvers, registered as a platform MBean.
+ *
+ * The runs count their events locally and add them once at their end, into striped counters, so concurrent runs don't contend. The metrics are only collected once {@link #register()} has been called.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class SolverMetrics implements SolverMetricsMXBean {
+
+	/**
+	 * The name of the MBean.
+	 */
+	public static final String OBJECT_NAME = "fr.polytech.queenspuzzle:type=SolverMetrics";
+
+	/**
+	 * The registered metrics (null until registered).
+	 */
+	private static volatile SolverMetrics registeredMetrics = null;
+
+	/**
+	 * The number of fitness evaluations.
+	 */
+	private final LongAdder nbFitnessEvaluations;
+
+	/**
+	 * The number of proposed moves.
+	 */
+	private final LongAdder nbProposedMoves;
+
+	/**
+	 * The number of accepted moves.
+	 */
+	private final LongAdder nbAcceptedMoves;
+
+	/**
+	 * The number of tabu rejections.
+	 */
+	private final LongAdder nbTabuRejections;
+
+	/**
+	 * The number of generations.
+	 */
+	private final LongAdder nbGenerations;
+
+	/**
+	 * The number of completed solves.
+	 */
+	private final LongAdder nbCompletedSolves;
+
+	/**
+	 * The number of cut off solves.
+	 */
+	private final LongAdder nbCutOffSolves;
+
+	/**
+	 * The latency histograms (key = algorithm name).
+	 */
+	private final ConcurrentMap<String, LatencyHistogram> latencies;
+
+	/**
+	 * Create solver metrics.
+	 */
+	public SolverMetrics() {
+		this.nbFitnessEvaluations = new LongAdder();
+		this.nbProposedMoves = new LongAdder();
+		this.nbAcceptedMoves = new LongAdder();
+		this.nbTabuRejections = new LongAdder();
+		this.nbGenerations = new LongAdder();
+		this.nbCompletedSolves = new LongAdder();
+		this.nbCutOffSolves = new LongAdder();
+		this.latencies = new ConcurrentHashMap<String, LatencyHistogram>();
+	}
+
+	/**
+	 * Register the metrics into the platform MBean server (once), which starts their collection.
+	 * 
+	 * @return The registered metrics.
+	 */
+	public static synchronized SolverMetrics register() {
+		if (registeredMetrics == null) {
+			final SolverMetrics metrics = new SolverMetrics();
+			try {
+				final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+				mBeanServer.registerMBean(metrics, new ObjectName(OBJECT_NAME));
+			} catch (JMException e) {
+				throw new IllegalStateException("The solver metrics can't be registered.", e);
+			}
+
+			registeredMetrics = metrics;
+		}
+
+		return registeredMetrics;
+	}
+
+	/**
+	 * Get the registered metrics.
+	 * 
+	 * @return The registered metrics, or null if they are not collected.
+	 */
+	public static SolverMetrics getRegisteredMetrics() {
+		return registeredMetrics;
+	}
+
+	/**
+	 * Record a run.
+	 * 
+	 * @param algorithmName
+	 *            The name of the algorithm.
+	 * @param latency
+	 *            The duration of the run (in nanoseconds).
+	 * @param nbFitnessEvaluations
+	 *            The number of fitness evaluations.
+	 * @param nbProposedMoves
+	 *            The number of proposed moves.
+	 * @param nbAcceptedMoves
+	 *            The number of accepted moves.
+	 * @param nbTabuRejections
+	 *            The number of tabu rejections.
+	 * @param nbGenerations
+	 *            The number of generations.
+	 * @param completed
+	 *            True if the run has completed, False if it has been cut off (cancelled or out of time).
+	 */
+	public void record(String algorithmName, long latency, long nbFitnessEvaluations, long nbProposedMoves, long nbAcceptedMoves, long nbTabuRejections, long nbGenerations, boolean completed) {
+		this.nbFitnessEvaluations.add(nbFitnessEvaluations);
+		this.nbProposedMoves.add(nbProposedMoves);
+		this.nbAcceptedMoves.add(nbAcceptedMoves);
+		this.nbTabuRejections.add(nbTabuRejections);
+		this.nbGenerations.add(nbGenerations);
+
+		if (completed) {
+			this.nbCompletedSolves.increment();
+		} else {
+			this.nbCutOffSolves.increment();
+		}
+
+		this.latencies.computeIfAbsent(algorithmName, LatencyHistogram::new).record(latency);
+	}
+
+	@Override
+	public long getNbFitnessEvaluations() {
+		return this.nbFitnessEvaluations.sum();
+	}
+
+	@Override
+	public long getNbProposedMoves() {
+		return this.nbProposedMoves.sum();
+	}
+
+	@Override
+	public long getNbAcceptedMoves() {
+		return this.nbAcceptedMoves.sum();
+	}
+
+	@Override
+	public long getNbTabuRejections() {
+		return this.nbTabuRejections.sum();
+	}
+
+	@Override
+	public long getNbGenerations() {
+		return this.nbGenerations.sum();
+	}
+
+	@Override
+	public long getNbCompletedSolves() {
+		return this.nbCompletedSolves.sum();
+	}
+
+	@Override
+	public long getNbCutOffSolves() {
+		return this.nbCutOffSolves.sum();
+	}
+
+	@Override
+	public List<LatencySnapshot> getLatencies() {
+		final List<LatencySnapshot> snapshots = new ArrayList<LatencySnapshot>(this.latencies.size());
+		for (LatencyHistogram latencyHistogram : this.latencies.values()) {
+			snapshots.add(latencyHistogram.snapshot());
+		}
+
+		return snapshots;
+	}
+
+	@Override
+	public void reset() {
+		this.nbFitnessEvaluations.reset();
+		this.nbProposedMoves.reset();
+		this.nbAcceptedMoves.reset();
+		this.nbTabuRejections.reset();
+		this.nbGenerations.reset();
+		this.nbCompletedSolves.reset();
+		this.nbCutOffSolves.reset();
+
+		for (LatencyHistogram latencyHistogram : this.latencies.values()) {
+			latencyHistogram.reset();
+		}
+	}
+}
\ No newline at end of file
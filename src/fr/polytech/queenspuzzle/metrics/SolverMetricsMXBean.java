@@ -0,0 +1,73 @@
+package fr.polytech.queenspuzzle.metrics;
+
+import java.util.List;
+
+/**
+ * This interface represents the management interface of the metrics of the queen puzzle algorithm solvers.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public interface SolverMetricsMXBean {
+
+	/**
+	 * Get the number of fitness evaluations.
+	 * 
+	 * @return The number of fitness evaluations.
+	 */
+	public long getNbFitnessEvaluations();
+
+	/**
+	 * Get the number of proposed moves.
+	 * 
+	 * @return The number of proposed moves.
+	 */
+	public long getNbProposedMoves();
+
+	/**
+	 * Get the number of accepted moves.
+	 * 
+	 * @return The number of accepted moves.
+	 */
+	public long getNbAcceptedMoves();
+
+	/**
+	 * Get the number of moves rejected because they were forbidden by a tabu list.
+	 * 
+	 * @return The number of tabu rejections.
+	 */
+	public long getNbTabuRejections();
+
+	/**
+	 * Get the number of generations of the genetic searches.
+	 * 
+	 * @return The number of generations.
+	 */
+	public long getNbGenerations();
+
+	/**
+	 * Get the number of completed solves.
+	 * 
+	 * @return The number of completed solves.
+	 */
+	public long getNbCompletedSolves();
+
+	/**
+	 * Get the number of solves cut off (out of time or cancelled, e.g. by the winner of a portfolio).
+	 * 
+	 * @return The number of cut off solves.
+	 */
+	public long getNbCutOffSolves();
+
+	/**
+	 * Get the latencies of the solves of each algorithm.
+	 * 
+	 * @return The latencies.
+	 */
+	public List<LatencySnapshot> getLatencies();
+
+	/**
+	 * Reset all the metrics.
+	 */
+	public void reset();
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+package fr.polytech.queenspuzzle.progress;
+
+/**
+ * This class represents a progress event of a run of a queen puzzle algorithm solver.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class ProgressEvent {
+
+	/**
+	 * The value of the temperature when the algorithm has none.
+	 */
+	public static final double NO_TEMPERATURE = Double.NaN;
+
+	/**
+	 * The value of the tabu size when the algorithm has no tabu list.
+	 */
+	public static final int NO_TABU_SIZE = -1;
+
+	/**
+	 * The name of the algorithm.
+	 */
+	private final String algorithmName;
+
+	/**
+	 * The iteration (or generation, or sweep).
+	 */
+	private final long iteration;
+
+	/**
+	 * The fitness value of the current state.
+	 */
+	private final int currentFitness;
+
+	/**
+	 * The fitness value of the best state met.
+	 */
+	private final int bestFitness;
+
+	/**
+	 * The number of evaluated states.
+	 */
+	private final long nbEvaluations;
+
+	/**
+	 * The elapsed time since the beginning of the run (in nanoseconds).
+	 */
+	private final long elapsedTime;
+
+	/**
+	 * The temperature, or {@link #NO_TEMPERATURE}.
+	 */
+	private final double temperature;
+
+	/**
+	 * The number of forbidden transformations of the tabu list, or {@link #NO_TABU_SIZE}.
+	 */
+	private final int tabuSize;
+
+	/**
+	 * Create a progress event.
+	 * 
+	 * @param algorithmName
+	 *            The name of the algorithm.
+	 * @param iteration
+	 *            The iteration (or generation, or sweep).
+	 * @param currentFitness
+	 *            The fitness value of the current state.
+	 * @param bestFitness
+	 *            The fitness value of the best state met.
+	 * @param nbEvaluations
+	 *            The number of evaluated states.
+	 * @param elapsedTime
+	 *            The elapsed time since the beginning of the run (in nanoseconds).
+	 * @param temperature
+	 *            The temperature, or {@link #NO_TEMPERATURE}.
+	 * @param tabuSize
+	 *            The number of forbidden transformations of the tabu list, or {@link #NO_TABU_SIZE}.
+	 */
+	public ProgressEvent(String algorithmName, long iteration, int currentFitness, int bestFitness, long nbEvaluations, long elapsedTime, double temperature, int tabuSize) {
+		this.algorithmName = algorithmName;
+		this.iteration = iteration;
+		this.currentFitness = currentFitness;
+		this.bestFitness = bestFitness;
+		this.nbEvaluations = nbEvaluations;
+		this.elapsedTime = elapsedTime;
+		this.temperature = temperature;
+		this.tabuSize = tabuSize;
+	}
+
+	/**
+	 * Get the name of the algorithm.
+	 * 
+	 * @return The name of the algorithm.
+	 */
+	public String getAlgorithmName() {
+		return this.algorithmName;
+	}
+
+	/**
+	 * Get the iteration (or generation, or sweep).
+	 * 
+	 * @return The iteration.
+	 */
+	public long getIteration() {
+		return this.iteration;
+	}
+
+	/**
+	 * Get the fitness value of the current state.
+	 * 
+	 * @return The fitness value.
+	 */
+	public int getCurrentFitness() {
+		return this.currentFitness;
+	}
+
+	/**
+	 * Get the fitness value of the best state met.
+	 * 
+	 * @return The fitness value.
+	 */
+	public int getBestFitness() {
+		return this.bestFitness;
+	}
+
+	/**
+	 * Get the number of evaluated states.
+	 * 
+	 * @return The number of evaluated states.
+	 */
+	public long getNbEvaluations() {
+		return this.nbEvaluations;
+	}
+
+	/**
+	 * Get the elapsed time since the beginning of the run (in nanoseconds).
+	 * 
+	 * @return The elapsed time.
+	 */
+	public long getElapsedTime() {
+		return this.elapsedTime;
+	}
+
+	/**
+	 * Get the number of evaluated states per second.
+	 * 
+	 * @return The number of evaluated states per second.
+	 */
+	public double getEvaluationsPerSecond() {
+		return this.elapsedTime == 0 ? 0 : this.nbEvaluations * 1e9 / this.elapsedTime;
+	}
+
+	/**
+	 * Get the temperature.
+	 * 
+	 * @return The temperature, or {@link #NO_TEMPERATURE}.
+	 */
+	public double getTemperature() {
+		return this.temperature;
+	}
+
+	/**
+	 * Get the number of forbidden transformations of the tabu list.
+	 * 
+	 * @return The number of forbidden transformations, or {@link #NO_TABU_SIZE}.
+	 */
+	public int getTabuSize() {
+		return this.tabuSize;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "ProgressEvent [algorithmName=" + this.algorithmName + ", iteration=" + this.iteration + ", currentFitness=" + this.currentFitness + ", bestFitness=" + this.bestFitness + ", nbEvaluations=" + this.nbEvaluations + ", elapsedTime=" + this.elapsedTime + ", temperature=" + this.temperature + ", tabuSize=" + this.tabuSize + "]";
+	}
+}
\ No newline at end of file
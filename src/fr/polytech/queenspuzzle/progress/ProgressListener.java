@@ -0,0 +1,33 @@
+package fr.polytech.queenspuzzle.progress;
+
+import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
+
+/**
+ * This interface represents a listener of the progress of the runs of a queen puzzle algorithm solver.
+ *
+ * The listener is called on the thread of the run, so it should return quickly.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public interface ProgressListener {
+
+	/**
+	 * Receive a sampled progress event of a run.
+	 * 
+	 * @param event
+	 *            The progress event.
+	 */
+	public void onProgress(ProgressEvent event);
+
+	/**
+	 * Receive the end of a run.
+	 * 
+	 * @param event
+	 *            The last progress event of the run.
+	 * @param solution
+	 *            The solution of the run.
+	 */
+	public default void onFinish(ProgressEvent event, AdvancedSolution solution) {
+	}
+}
\ No newline at end of file
@@ -0,0 +1,351 @@
+package fr.polytech.queenspuzzle.progress;
+
+import java.util.Collections;
+import java.util.List;
+
+import fr.polytech.queenspuzzle.metrics.SolverMetrics;
+import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
+
+/**
+ * This class represents the progress reporter of a single run, which samples the progress of the run and sends it to the listeners, then flushes the counts of the run into the solver metrics.
+ *
+ * The run reports its progress at each iteration, but an event is only built for sampled iterations: the number of iterations between two events is doubled or halved to get about one event every {@link #SAMPLE_INTERVAL} nanoseconds, whatever the cost of an iteration. Without listeners, a report is a single comparison.
+ *
+ * The counts of the run (fitness evaluations, moves, tabu rejections, generations) are set once by the run before its end, so the hot loops only update local variables. The number of evaluations of a progress event is estimated from the number of evaluations per iteration, while the one of the end of the run is the exact count set by the run.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class ProgressReporter {
+
+	/**
+	 * The expected time between two progress events (in nanoseconds).
+	 */
+	public static final long SAMPLE_INTERVAL = 100000000L;
+
+	/**
+	 * The number of evaluations of a run which hasn't set it.
+	 */
+	private static final long NO_NB_EVALUATIONS = -1;
+
+	/**
+	 * The progress reporter of the runs without listeners.
+	 */
+	public static final ProgressReporter NONE = new ProgressReporter(null, Collections.<ProgressListener> emptyList(), null);
+
+	/**
+	 * The name of the algorithm.
+	 */
+	private final String algorithmName;
+
+	/**
+	 * The listeners.
+	 */
+	private final List<ProgressListener> progressListeners;
+
+	/**
+	 * The solver metrics (null if they are not collected).
+	 */
+	private final SolverMetrics solverMetrics;
+
+	/**
+	 * The beginning of the run (in nanoseconds).
+	 */
+	private final long startTime;
+
+	/**
+	 * The number of evaluated states per iteration.
+	 */
+	private long nbEvaluationsPerIteration;
+
+	/**
+	 * The number of iterations between two progress events.
+	 */
+	private long samplePeriod;
+
+	/**
+	 * The next sampled iteration (never reached without listeners).
+	 */
+	private long nextSample;
+
+	/**
+	 * The time of the last progress event (in nanoseconds).
+	 */
+	private long lastSampleTime;
+
+	/**
+	 * The number of fitness evaluations of the run ({@link #NO_NB_EVALUATIONS} if it hasn't been set).
+	 */
+	private long nbEvaluations;
+
+	/**
+	 * The number of proposed moves.
+	 */
+	private long nbProposedMoves;
+
+	/**
+	 * The number of accepted moves.
+	 */
+	private long nbAcceptedMoves;
+
+	/**
+	 * The number of tabu rejections.
+	 */
+	private long nbTabuRejections;
+
+	/**
+	 * The number of generations.
+	 */
+	private long nbGenerations;
+
+	/**
+	 * Create a progress reporter.
+	 * 
+	 * @param algorithmName
+	 *            The name of the algorithm.
+	 * @param progressListeners
+	 *            The listeners.
+	 */
+	public ProgressReporter(String algorithmName, List<ProgressListener> progressListeners) {
+		this(algorithmName, progressListeners, null);
+	}
+
+	/**
+	 * Create a progress reporter which flushes the counts of the run into solver metrics.
+	 * 
+	 * @param algorithmName
+	 *            The name of the algorithm.
+	 * @param progressListeners
+	 *            The listeners.
+	 * @param solverMetrics
+	 *            The solver metrics (null if they are not collected).
+	 */
+	public ProgressReporter(String algorithmName, List<ProgressListener> progressListeners, SolverMetrics solverMetrics) {
+		this.algorithmName = algorithmName;
+		this.progressListeners = progressListeners;
+		this.solverMetrics = solverMetrics;
+		this.startTime = System.nanoTime();
+		this.nbEvaluationsPerIteration = 1;
+		this.samplePeriod = 1;
+		this.nextSample = progressListeners.isEmpty() ? Long.MAX_VALUE : 0;
+		this.lastSampleTime = this.startTime;
+		this.nbEvaluations = NO_NB_EVALUATIONS;
+	}
+
+	/**
+	 * Set the number of evaluated states per iteration (used to estimate the number of evaluations of the progress events).
+	 * 
+	 * @param nbEvaluationsPerIteration
+	 *            The number of evaluated states per iteration.
+	 */
+	public void setNbEvaluationsPerIteration(long nbEvaluationsPerIteration) {
+		if (!isCollecting()) {
+			return;
+		}
+
+		this.nbEvaluationsPerIteration = nbEvaluationsPerIteration;
+	}
+
+	/**
+	 * Set the exact number of fitness evaluations (or evaluated moves) of the run.
+	 * 
+	 * @param nbEvaluations
+	 *            The number of fitness evaluations.
+	 */
+	public void setNbEvaluations(long nbEvaluations) {
+		if (!isCollecting()) {
+			return;
+		}
+
+		this.nbEvaluations = nbEvaluations;
+	}
+
+	/**
+	 * Set the number of moves of the run.
+	 * 
+	 * @param nbProposedMoves
+	 *            The number of proposed moves.
+	 * @param nbAcceptedMoves
+	 *            The number of accepted moves.
+	 */
+	public void setNbMoves(long nbProposedMoves, long nbAcceptedMoves) {
+		if (!isCollecting()) {
+			return;
+		}
+
+		this.nbProposedMoves = nbProposedMoves;
+		this.nbAcceptedMoves = nbAcceptedMoves;
+	}
+
+	/**
+	 * Set the number of moves of the run rejected because they were forbidden by a tabu list.
+	 * 
+	 * @param nbTabuRejections
+	 *            The number of tabu rejections.
+	 */
+	public void setNbTabuRejections(long nbTabuRejections) {
+		if (!isCollecting()) {
+			return;
+		}
+
+		this.nbTabuRejections = nbTabuRejections;
+	}
+
+	/**
+	 * Set the number of generations of the run.
+	 * 
+	 * @param nbGenerations
+	 *            The number of generations.
+	 */
+	public void setNbGenerations(long nbGenerations) {
+		if (!isCollecting()) {
+			return;
+		}
+
+		this.nbGenerations = nbGenerations;
+	}
+
+	/**
+	 * Check if the progress is sent to some listeners.
+	 * 
+	 * @return True if there are listeners, else False.
+	 */
+	public boolean isEnabled() {
+		return !this.progressListeners.isEmpty();
+	}
+
+	/**
+	 * Check if the counts of the run are collected (by some listeners or the solver metrics).
+	 * 
+	 * @return True if the counts are collected, else False.
+	 */
+	public boolean isCollecting() {
+		return isEnabled() || this.solverMetrics != null;
+	}
+
+	/**
+	 * Check if an iteration is sampled (to avoid computing the reported values of the other ones).
+	 * 
+	 * @param iteration
+	 *            The iteration.
+	 * @return True if the iteration is sampled, else False.
+	 */
+	public final boolean isSampled(long iteration) {
+		return iteration >= this.nextSample;
+	}
+
+	/**
+	 * Report the progress of the run.
+	 * 
+	 * @param iteration
+	 *            The iteration (or generation, or sweep).
+	 * @param currentFitness
+	 *            The fitness value of the current state.
+	 * @param bestFitness
+	 *            The fitness value of the best state met.
+	 */
+	public final void report(long iteration, int currentFitness, int bestFitness) {
+		if (iteration >= this.nextSample) {
+			sendProgress(iteration, currentFitness, bestFitness, ProgressEvent.NO_TEMPERATURE, ProgressEvent.NO_TABU_SIZE);
+		}
+	}
+
+	/**
+	 * Report the progress of the run.
+	 * 
+	 * @param iteration
+	 *            The iteration (or generation, or sweep).
+	 * @param currentFitness
+	 *            The fitness value of the current state.
+	 * @param bestFitness
+	 *            The fitness value of the best state met.
+	 * @param temperature
+	 *            The temperature.
+	 * @param tabuSize
+	 *            The number of forbidden transformations of the tabu list.
+	 */
+	public final void report(long iteration, int currentFitness, int bestFitness, double temperature, int tabuSize) {
+		if (iteration >= this.nextSample) {
+			sendProgress(iteration, currentFitness, bestFitness, temperature, tabuSize);
+		}
+	}
+
+	/**
+	 * Report the end of the run, and flush its counts into the solver metrics.
+	 * 
+	 * @param solution
+	 *            The solution of the run.
+	 */
+	public void finish(AdvancedSolution solution) {
+		if (!isCollecting()) {
+			return;
+		}
+
+		final long nbEvaluations = this.nbEvaluations == NO_NB_EVALUATIONS ? solution.getNbIterations() * this.nbEvaluationsPerIteration : this.nbEvaluations;
+		final ProgressEvent event = createEvent(solution.getNbIterations(), solution.getFitness(), solution.getFitness(), nbEvaluations, ProgressEvent.NO_TEMPERATURE, ProgressEvent.NO_TABU_SIZE, System.nanoTime());
+
+		if (this.solverMetrics != null) {
+			this.solverMetrics.record(this.algorithmName, event.getElapsedTime(), event.getNbEvaluations(), this.nbProposedMoves, this.nbAcceptedMoves, this.nbTabuRejections, this.nbGenerations, solution.isCompleted());
+		}
+
+		for (ProgressListener progressListener : this.progressListeners) {
+			progressListener.onFinish(event, solution);
+		}
+	}
+
+	/**
+	 * Send a progress event to the listeners.
+	 * 
+	 * @param iteration
+	 *            The iteration (or generation, or sweep).
+	 * @param currentFitness
+	 *            The fitness value of the current state.
+	 * @param bestFitness
+	 *            The fitness value of the best state met.
+	 * @param temperature
+	 *            The temperature.
+	 * @param tabuSize
+	 *            The number of forbidden transformations of the tabu list.
+	 */
+	private void sendProgress(long iteration, int currentFitness, int bestFitness, double temperature, int tabuSize) {
+		final long time = System.nanoTime();
+		final ProgressEvent event = createEvent(iteration, currentFitness, bestFitness, iteration * this.nbEvaluationsPerIteration, temperature, tabuSize, time);
+
+		// Adapt the number of iterations between two events to the speed of the iterations
+		if (time - this.lastSampleTime < SAMPLE_INTERVAL / 2) {
+			this.samplePeriod = Math.min(2 * this.samplePeriod, Long.MAX_VALUE / 4);
+		} else if (time - this.lastSampleTime > 2 * SAMPLE_INTERVAL) {
+			this.samplePeriod = Math.max(this.samplePeriod / 2, 1);
+		}
+
+		this.lastSampleTime = time;
+		this.nextSample = iteration + this.samplePeriod;
+
+		for (ProgressListener progressListener : this.progressListeners) {
+			progressListener.onProgress(event);
+		}
+	}
+
+	/**
+	 * Create a progress event.
+	 * 
+	 * @param iteration
+	 *            The iteration (or generation, or sweep).
+	 * @param currentFitness
+	 *            The fitness value of the current state.
+	 * @param bestFitness
+	 *            The fitness value of the best state met.
+	 * @param nbEvaluations
+	 *            The number of fitness evaluations.
+	 * @param temperature
+	 *            The temperature.
+	 * @param tabuSize
+	 *            The number of forbidden transformations of the tabu list.
+	 * @param time
+	 *            The current time (in nanoseconds).
+	 * @return The progress event.
+	 */
+	private ProgressEvent createEvent(long iteration, int currentFitness, int bestFitness, long nbEvaluations, double temperature, int tabuSize, long time) {
+		return new ProgressEvent(this.algorithmName, iteration, currentFitness, bestFitness, nbEvaluations, time - this.startTime, temperature, tabuSize);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package fr.polytech.queenspuzzle.randomizers;
+
+/**
+ * This interface represents a source of random values used by the solvers.
+ *
+ * A randomizer is not meant to be shared between threads: a parallel computation should give its own {@link #split()} randomizer to each thread.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public interface Randomizer {
+
+	/**
+	 * Get a random integer.
+	 * 
+	 * @param bound
+	 *            The upper bound (exclusive), which must be positive.
+	 * @return A random integer between 0 (inclusive) and the bound (exclusive).
+	 */
+	public int nextInt(int bound);
+
+	/**
+	 * Get a random double.
+	 * 
+	 * @return A random double between 0.0 (inclusive) and 1.0 (exclusive).
+	 */
+	public double nextDouble();
+
+	/**
+	 * Create a new randomizer which doesn't share its state with this one (its values are still determined by the seed of this one).
+	 * 
+	 * @return The new randomizer.
+	 */
+	public Randomizer split();
+}
\ No newline at end of file
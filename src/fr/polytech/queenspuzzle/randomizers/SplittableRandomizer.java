@@ -0,0 +1,59 @@
+package fr.polytech.queenspuzzle.randomizers;
+
+import java.util.SplittableRandom;
+
+/**
+ * This class represents a fast non-cryptographic randomizer, which can be seeded to replay a run.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class SplittableRandomizer implements Randomizer {
+
+	/**
+	 * The random generator.
+	 */
+	private final SplittableRandom random;
+
+	/**
+	 * Create a splittable randomizer with a random seed.
+	 */
+	public SplittableRandomizer() {
+		this(new SplittableRandom());
+	}
+
+	/**
+	 * Create a splittable randomizer.
+	 * 
+	 * @param seed
+	 *            The seed.
+	 */
+	public SplittableRandomizer(long seed) {
+		this(new SplittableRandom(seed));
+	}
+
+	/**
+	 * Create a splittable randomizer.
+	 * 
+	 * @param random
+	 *            The random generator.
+	 */
+	private SplittableRandomizer(SplittableRandom random) {
+		this.random = random;
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		return this.random.nextInt(bound);
+	}
+
+	@Override
+	public double nextDouble() {
+		return this.random.nextDouble();
+	}
+
+	@Override
+	public Randomizer split() {
+		return new SplittableRandomizer(this.random.split());
+	}
+}
\ No newline at end of file
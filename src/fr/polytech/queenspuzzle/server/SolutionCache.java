@@ -0,0 +1,73 @@
+package fr.polytech.queenspuzzle.server;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
+
+/**
+ * This class represents a bounded LRU cache of solutions, shared by the requests of the solve service.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class SolutionCache {
+
+	/**
+	 * The solutions (in access order, the eldest one is evicted first).
+	 */
+	private final LinkedHashMap<String, AdvancedSolution> solutions;
+
+	/**
+	 * Create a solution cache.
+	 * 
+	 * @param capacity
+	 *            The maximal number of solutions.
+	 */
+	public SolutionCache(int capacity) {
+		this.solutions = new LinkedHashMap<String, AdvancedSolution>(16, 0.75f, true) {
+
+			/**
+			 * The serial version UID.
+			 */
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, AdvancedSolution> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * Get a solution, and mark it as the most recently used one.
+	 * 
+	 * @param key
+	 *            The key.
+	 * @return The solution, or null if it isn't cached.
+	 */
+	public synchronized AdvancedSolution get(String key) {
+		return this.solutions.get(key);
+	}
+
+	/**
+	 * Cache a solution, and evict the least recently used one if the cache is full.
+	 * 
+	 * @param key
+	 *            The key.
+	 * @param solution
+	 *            The solution.
+	 */
+	public synchronized void put(String key, AdvancedSolution solution) {
+		this.solutions.put(key, solution);
+	}
+
+	/**
+	 * Get the number of cached solutions.
+	 * 
+	 * @return The number of cached solutions.
+	 */
+	public synchronized int size() {
+		return this.solutions.size();
+	}
+}
\ No newline at end of file
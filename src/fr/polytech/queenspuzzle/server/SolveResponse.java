@@ -0,0 +1,141 @@
+package fr.polytech.queenspuzzle.server;
+
+import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
+
+/**
+ * This class represents the response of the solve service to a request, written as a JSON object.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class SolveResponse {
+
+	/**
+	 * This enumeration represents the origin of a solution.
+	 */
+	public enum Origin {
+
+		/**
+		 * The solution has been computed for this request.
+		 */
+		SOLVE,
+
+		/**
+		 * The solution has been computed for a concurrent request with the same key.
+		 */
+		COALESCED,
+
+		/**
+		 * The solution has been found in the cache.
+		 */
+		CACHE
+	}
+
+	/**
+	 * The number of queens.
+	 */
+	private final int nbQueens;
+
+	/**
+	 * The algorithm name.
+	 */
+	private final String algorithm;
+
+	/**
+	 * The solution.
+	 */
+	private final AdvancedSolution solution;
+
+	/**
+	 * The origin of the solution.
+	 */
+	private final Origin origin;
+
+	/**
+	 * The elapsed time to serve the request (in nanoseconds).
+	 */
+	private final long elapsedTime;
+
+	/**
+	 * Create a solve response.
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param algorithm
+	 *            The algorithm name.
+	 * @param solution
+	 *            The solution.
+	 * @param origin
+	 *            The origin of the solution.
+	 * @param elapsedTime
+	 *            The elapsed time to serve the request (in nanoseconds).
+	 */
+	public SolveResponse(int nbQueens, String algorithm, AdvancedSolution solution, Origin origin, long elapsedTime) {
+		this.nbQueens = nbQueens;
+		this.algorithm = algorithm;
+		this.solution = solution;
+		this.origin = origin;
+		this.elapsedTime = elapsedTime;
+	}
+
+	/**
+	 * Get the solution.
+	 * 
+	 * @return The solution.
+	 */
+	public AdvancedSolution getSolution() {
+		return this.solution;
+	}
+
+	/**
+	 * Get the origin of the solution.
+	 * 
+	 * @return The origin.
+	 */
+	public Origin getOrigin() {
+		return this.origin;
+	}
+
+	/**
+	 * Get the elapsed time to serve the request.
+	 * 
+	 * @return The elapsed time (in nanoseconds).
+	 */
+	public long getElapsedTime() {
+		return this.elapsedTime;
+	}
+
+	/**
+	 * Write the response as a JSON object (the algorithm name is a known one, so it needs no escaping).
+	 * 
+	 * @return The JSON object.
+	 */
+	public String toJson() {
+		final int[] state = this.solution.getState();
+		final StringBuilder json = new StringBuilder(128 + 8 * state.length);
+		json.append("{\"nbQueens\":").append(this.nbQueens);
+		json.append(",\"algorithm\":\"").append(this.algorithm).append('"');
+		json.append(",\"origin\":\"").append(this.origin.name().toLowerCase()).append('"');
+		json.append(",\"fitness\":").append(this.solution.getFitness());
+		json.append(",\"nbIterations\":").append(this.solution.getNbIterations());
+		json.append(",\"completed\":").append(this.solution.isCompleted());
+		json.append(",\"elapsedTime\":").append(this.elapsedTime);
+		json.append(",\"state\":[");
+		for (int offset = 0; offset < state.length; offset++) {
+			if (offset > 0) {
+				json.append(',');
+			}
+			json.append(state[offset]);
+		}
+
+		return json.append("]}").toString();
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "SolveResponse [nbQueens=" + this.nbQueens + ", algorithm=" + this.algorithm + ", solution=" + this.solution + ", origin=" + this.origin + ", elapsedTime=" + this.elapsedTime + "]";
+	}
+}
\ No newline at end of file
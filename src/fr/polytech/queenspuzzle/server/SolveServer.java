@@ -0,0 +1,246 @@
+package fr.polytech.queenspuzzle.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import fr.polytech.queenspuzzle.batch.JobSpec;
+import fr.polytech.queenspuzzle.metrics.SolverMetrics;
+
+/**
+ * This class represents a long-lived local HTTP server of the solve service, so the solves don't pay the startup and the warm-up of a new JVM.
+ *
+ * It serves <code>GET /solve?n=300&amp;algorithm=tabu</code> (with the optional seed, timeBudget and parameters of the algorithm, as in a batch job) and <code>GET /stats</code>. Each request runs on a thread of a fixed pool, which also runs its solve.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class SolveServer {
+
+	/**
+	 * The default port.
+	 */
+	public static final int DEFAULT_PORT = 8080;
+
+	/**
+	 * The default number of cached solutions.
+	 */
+	public static final int DEFAULT_CACHE_CAPACITY = 1024;
+
+	/**
+	 * The default maximal time budget of a solve (in milliseconds).
+	 */
+	public static final long DEFAULT_MAX_TIME_BUDGET = 60000;
+
+	/**
+	 * The default maximal number of queens of a request.
+	 */
+	public static final int DEFAULT_MAX_NB_QUEENS = 100000;
+
+	/**
+	 * The identifier of the job specifications of the requests.
+	 */
+	private static final String REQUEST_ID = "request";
+
+	/**
+	 * The HTTP server.
+	 */
+	private final HttpServer httpServer;
+
+	/**
+	 * The executor service which runs the requests.
+	 */
+	private final ExecutorService executorService;
+
+	/**
+	 * The solve service.
+	 */
+	private final SolveService solveService;
+
+	/**
+	 * Create a solve server bound to the loopback address.
+	 * 
+	 * @param port
+	 *            The port (0 for an ephemeral one).
+	 * @param nbThreads
+	 *            The number of threads which run the requests.
+	 * @param solveService
+	 *            The solve service.
+	 * @throws IOException
+	 *             If the server can't be bound.
+	 */
+	public SolveServer(int port, int nbThreads, SolveService solveService) throws IOException {
+		this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		this.executorService = Executors.newFixedThreadPool(nbThreads);
+		this.solveService = solveService;
+
+		this.httpServer.setExecutor(this.executorService);
+		this.httpServer.createContext("/solve", this::handleSolve);
+		this.httpServer.createContext("/stats", this::handleStats);
+	}
+
+	/**
+	 * The entry of the server mode.
+	 * 
+	 * @param args
+	 *            The optional port, number of threads, cache capacity, maximal time budget (in milliseconds) and maximal number of queens.
+	 * @throws IOException
+	 *             If the server can't be bound.
+	 */
+	public static void main(String[] args) throws IOException {
+		final int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+		final int nbThreads = args.length > 1 ? Integer.parseInt(args[1]) : 4 * Runtime.getRuntime().availableProcessors();
+		final int cacheCapacity = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CACHE_CAPACITY;
+		final long maxTimeBudget = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_MAX_TIME_BUDGET;
+		final int maxNbQueens = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_MAX_NB_QUEENS;
+
+		// The solver metrics are exposed over JMX for the lifetime of the server
+		SolverMetrics.register();
+
+		final SolveServer solveServer = new SolveServer(port, nbThreads, new SolveService(cacheCapacity, maxTimeBudget, maxNbQueens));
+		solveServer.start();
+		System.out.println("Listening on port " + solveServer.getPort());
+	}
+
+	/**
+	 * Start the server.
+	 */
+	public void start() {
+		this.httpServer.start();
+	}
+
+	/**
+	 * Stop the server, after the end of the requests in progress (up to a given delay).
+	 * 
+	 * @param delay
+	 *            The maximal delay (in seconds).
+	 */
+	public void stop(int delay) {
+		this.httpServer.stop(delay);
+		this.executorService.shutdown();
+	}
+
+	/**
+	 * Get the bound port.
+	 * 
+	 * @return The port.
+	 */
+	public int getPort() {
+		return this.httpServer.getAddress().getPort();
+	}
+
+	/**
+	 * Handle a solve request.
+	 * 
+	 * @param exchange
+	 *            The exchange.
+	 * @throws IOException
+	 *             If the response can't be sent.
+	 */
+	private void handleSolve(HttpExchange exchange) throws IOException {
+		if (!"GET".equals(exchange.getRequestMethod())) {
+			send(exchange, 405, "text/plain", "Only GET is allowed.");
+			return;
+		}
+
+		final SolveResponse response;
+		try {
+			final Map<String, String> values = parseQuery(exchange.getRequestURI().getRawQuery());
+			values.put(JobSpec.ID, REQUEST_ID);
+
+			response = this.solveService.solve(new JobSpec(values));
+		} catch (IllegalArgumentException e) {
+			send(exchange, 400, "text/plain", e.getMessage());
+			return;
+		} catch (Throwable e) {
+			// Any other failure, errors included, must still answer the request
+			send(exchange, 500, "text/plain", e.toString());
+			return;
+		}
+
+		send(exchange, 200, "application/json", response.toJson());
+	}
+
+	/**
+	 * Handle a statistics request.
+	 * 
+	 * @param exchange
+	 *            The exchange.
+	 * @throws IOException
+	 *             If the response can't be sent.
+	 */
+	private void handleStats(HttpExchange exchange) throws IOException {
+		final String json = "{\"nbSolves\":" + this.solveService.getNbSolves() + ",\"nbCacheHits\":" + this.solveService.getNbCacheHits() + ",\"nbCoalescedRequests\":" + this.solveService.getNbCoalescedRequests() + ",\"nbCachedSolutions\":" + this.solveService.getNbCachedSolutions() + ",\"nbInFlightSolves\":" + this.solveService.getNbInFlightSolves() + "}";
+		send(exchange, 200, "application/json", json);
+	}
+
+	/**
+	 * Parse the query of a request.
+	 * 
+	 * @param rawQuery
+	 *            The raw query (null if there is none).
+	 * @return The values of the keys.
+	 */
+	private static Map<String, String> parseQuery(String rawQuery) {
+		final Map<String, String> values = new LinkedHashMap<String, String>();
+		if (rawQuery == null || rawQuery.isEmpty()) {
+			return values;
+		}
+
+		int separator;
+		try {
+			for (String pair : rawQuery.split("&")) {
+				separator = pair.indexOf('=');
+				if (separator <= 0) {
+					throw new IllegalArgumentException("The pair " + pair + " isn't a key=value pair.");
+				}
+
+				values.put(URLDecoder.decode(pair.substring(0, separator), "UTF-8"), URLDecoder.decode(pair.substring(separator + 1), "UTF-8"));
+			}
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException("UTF-8 isn't supported.", e);
+		}
+
+		return values;
+	}
+
+	/**
+	 * Send a response.
+	 * 
+	 * @param exchange
+	 *            The exchange.
+	 * @param status
+	 *            The HTTP status.
+	 * @param contentType
+	 *            The content type.
+	 * @param body
+	 *            The body.
+	 * @throws IOException
+	 *             If the response can't be sent.
+	 */
+	private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+		final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		try {
+			exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+			exchange.sendResponseHeaders(status, bytes.length);
+
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(bytes);
+			}
+		} finally {
+			// The exchange is closed even if the response can't be sent
+			exchange.close();
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+package fr.polytech.queenspuzzle.server;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import fr.polytech.queenspuzzle.algorithms.CancellationToken;
+import fr.polytech.queenspuzzle.batch.AlgorithmFactory;
+import fr.polytech.queenspuzzle.batch.JobSpec;
+import fr.polytech.queenspuzzle.server.SolveResponse.Origin;
+import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
+
+/**
+ * This class represents a solve service, which serves the solutions of concurrent requests keyed by the number of queens and the algorithm name.
+ *
+ * The solutions without conflicts are kept in a bounded LRU cache. On a cache miss, the first request of a key solves it on its own thread while the concurrent requests of the same key wait for its solution instead of starting their own search (so they get the solution of the parameters of the first request). The requests beyond a maximal number of queens are rejected.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class SolveService {
+
+	/**
+	 * The factory of the algorithms.
+	 */
+	private final AlgorithmFactory algorithmFactory;
+
+	/**
+	 * The cache of the solutions without conflicts.
+	 */
+	private final SolutionCache solutionCache;
+
+	/**
+	 * The maximal time budget of a solve (in milliseconds).
+	 */
+	private final long maxTimeBudget;
+
+	/**
+	 * The maximal number of queens of a request.
+	 */
+	private final int maxNbQueens;
+
+	/**
+	 * The solves in progress (key = number of queens and algorithm name).
+	 */
+	private final ConcurrentMap<String, CompletableFuture<AdvancedSolution>> inFlightSolves;
+
+	/**
+	 * The number of solves.
+	 */
+	private final LongAdder nbSolves;
+
+	/**
+	 * The number of requests served by the cache.
+	 */
+	private final LongAdder nbCacheHits;
+
+	/**
+	 * The number of requests served by the solve of a concurrent request.
+	 */
+	private final LongAdder nbCoalescedRequests;
+
+	/**
+	 * Create a solve service.
+	 * 
+	 * @param cacheCapacity
+	 *            The maximal number of cached solutions.
+	 * @param maxTimeBudget
+	 *            The maximal time budget of a solve (in milliseconds).
+	 * @param maxNbQueens
+	 *            The maximal number of queens of a request.
+	 */
+	public SolveService(int cacheCapacity, long maxTimeBudget, int maxNbQueens) {
+		this.algorithmFactory = new AlgorithmFactory();
+		this.solutionCache = new SolutionCache(cacheCapacity);
+		this.maxTimeBudget = maxTimeBudget;
+		this.maxNbQueens = maxNbQueens;
+		this.inFlightSolves = new ConcurrentHashMap<String, CompletableFuture<AdvancedSolution>>();
+		this.nbSolves = new LongAdder();
+		this.nbCacheHits = new LongAdder();
+		this.nbCoalescedRequests = new LongAdder();
+	}
+
+	/**
+	 * Serve a request.
+	 * 
+	 * @param jobSpec
+	 *            The specification of the request (its time budget is bounded by the maximal time budget).
+	 * @return The response.
+	 * @throws IllegalArgumentException
+	 *             If the number of queens exceeds the maximal one.
+	 */
+	public SolveResponse solve(JobSpec jobSpec) {
+		// The boards are allocated before the deadline is checked, so the time budget alone doesn't bound the memory of a request
+		if (jobSpec.getNbQueens() > this.maxNbQueens) {
+			throw new IllegalArgumentException("The number of queens " + jobSpec.getNbQueens() + " exceeds the maximum of " + this.maxNbQueens + ".");
+		}
+
+		final long startTime = System.nanoTime();
+		final String key = jobSpec.getNbQueens() + ":" + jobSpec.getAlgorithm();
+
+		AdvancedSolution solution = this.solutionCache.get(key);
+		if (solution != null) {
+			this.nbCacheHits.increment();
+			return new SolveResponse(jobSpec.getNbQueens(), jobSpec.getAlgorithm(), solution, Origin.CACHE, System.nanoTime() - startTime);
+		}
+
+		final CompletableFuture<AdvancedSolution> solve = new CompletableFuture<AdvancedSolution>();
+		final CompletableFuture<AdvancedSolution> inFlightSolve = this.inFlightSolves.putIfAbsent(key, solve);
+		if (inFlightSolve != null) {
+			this.nbCoalescedRequests.increment();
+			return new SolveResponse(jobSpec.getNbQueens(), jobSpec.getAlgorithm(), waitFor(inFlightSolve), Origin.COALESCED, System.nanoTime() - startTime);
+		}
+
+		try {
+			// A solve of the same key may have ended between the cache lookup and the registration of this one
+			solution = this.solutionCache.get(key);
+			Origin origin = Origin.CACHE;
+			if (solution == null) {
+				final long timeBudget = jobSpec.getTimeBudget() == JobSpec.NO_TIME_BUDGET ? this.maxTimeBudget : Math.min(jobSpec.getTimeBudget(), this.maxTimeBudget);
+				solution = this.algorithmFactory.createProblemSolver(jobSpec).solve(CancellationToken.withDeadline(CancellationToken.NONE, timeBudget, TimeUnit.MILLISECONDS));
+				origin = Origin.SOLVE;
+				this.nbSolves.increment();
+
+				// Only the solved boards are cached, the next requests retry the other ones
+				if (solution.getFitness() == 0) {
+					this.solutionCache.put(key, solution);
+				}
+			}
+
+			solve.complete(solution);
+			return new SolveResponse(jobSpec.getNbQueens(), jobSpec.getAlgorithm(), solution, origin, System.nanoTime() - startTime);
+		} catch (Throwable e) {
+			// Errors too (e.g. OutOfMemoryError), or the coalesced requests would wait forever
+			solve.completeExceptionally(e);
+			throw e;
+		} finally {
+			this.inFlightSolves.remove(key, solve);
+		}
+	}
+
+	/**
+	 * Wait for the solution of a solve in progress.
+	 * 
+	 * @param inFlightSolve
+	 *            The solve in progress.
+	 * @return The solution.
+	 */
+	private static AdvancedSolution waitFor(CompletableFuture<AdvancedSolution> inFlightSolve) {
+		try {
+			return inFlightSolve.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("The request has been interrupted.", e);
+		} catch (ExecutionException e) {
+			// The failure of an invalid request is the same for all requests of its key
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw new IllegalStateException("The coalesced solve has failed.", e.getCause());
+		}
+	}
+
+	/**
+	 * Get the number of solves.
+	 * 
+	 * @return The number of solves.
+	 */
+	public long getNbSolves() {
+		return this.nbSolves.sum();
+	}
+
+	/**
+	 * Get the number of requests served by the cache.
+	 * 
+	 * @return The number of cache hits.
+	 */
+	public long getNbCacheHits() {
+		return this.nbCacheHits.sum();
+	}
+
+	/**
+	 * Get the number of requests served by the solve of a concurrent request.
+	 * 
+	 * @return The number of coalesced requests.
+	 */
+	public long getNbCoalescedRequests() {
+		return this.nbCoalescedRequests.sum();
+	}
+
+	/**
+	 * Get the number of cached solutions.
+	 * 
+	 * @return The number of cached solutions.
+	 */
+	public int getNbCachedSolutions() {
+		return this.solutionCache.size();
+	}
+
+	/**
+	 * Get the number of solves in progress.
+	 * 
+	 * @return The number of solves in progress.
+	 */
+	public int getNbInFlightSolves() {
+		return this.inFlightSolves.size();
+	}
+}
\ No newline at end of file
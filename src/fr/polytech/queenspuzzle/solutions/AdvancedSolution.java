@@ -16,7 +16,12 @@ public class AdvancedSolution extends Solution {
 	private int nbIterations;
 
 	/**
-	 * Create an advanced solution.
+	 * True if the algorithm has completed, False if it has been cut off (cancelled or out of time).
+	 */
+	private boolean completed;
+
+	/**
+	 * Create an advanced solution of a completed algorithm.
 	 * 
 	 * @param state
 	 *            The state.
@@ -26,8 +31,25 @@ public class AdvancedSolution extends Solution {
 	 *            The number of iterations.
 	 */
 	public AdvancedSolution(int[] state, int fitness, int nbIterations) {
+		this(state, fitness, nbIterations, true);
+	}
+
+	/**
+	 * Create an advanced solution.
+	 * 
+	 * @param state
+	 *            The state.
+	 * @param fitness
+	 *            The fitness value.
+	 * @param nbIterations
+	 *            The number of iterations.
+	 * @param completed
+	 *            True if the algorithm has completed, False if it has been cut off (cancelled or out of time).
+	 */
+	public AdvancedSolution(int[] state, int fitness, int nbIterations, boolean completed) {
 		super(state, fitness);
 		this.nbIterations = nbIterations;
+		this.completed = completed;
 	}
 
 	/**
@@ -49,11 +71,30 @@ public class AdvancedSolution extends Solution {
 		this.nbIterations = nbIterations;
 	}
 
+	/**
+	 * Check if the algorithm has completed.
+	 * 
+	 * @return True if the algorithm has completed, False if it has been cut off (cancelled or out of time).
+	 */
+	public boolean isCompleted() {
+		return this.completed;
+	}
+
+	/**
+	 * Set if the algorithm has completed.
+	 * 
+	 * @param completed
+	 *            True if the algorithm has completed, False if it has been cut off (cancelled or out of time).
+	 */
+	public void setCompleted(boolean completed) {
+		this.completed = completed;
+	}
+
 	/**
 	 * @see java.lang.Object#toString()
 	 */
 	@Override
 	public String toString() {
-		return "AdvancedSolution [nbIterations=" + this.nbIterations + ", state=" + Arrays.toString(this.state) + ", fitness=" + this.fitness + "]";
+		return "AdvancedSolution [nbIterations=" + this.nbIterations + ", completed=" + this.completed + ", state=" + Arrays.toString(this.state) + ", fitness=" + this.fitness + "]";
 	}
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package fr.polytech.queenspuzzle.solutions;
+
+import java.util.Arrays;
+
+/**
+ * This class represents a parallel tempering solution which contains for a given state its associated fitness value with the number of iterations to get it, the temperatures of the replicas and the acceptance rates of their exchanges.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class ParallelTemperingSolution extends AdvancedSolution {
+
+	/**
+	 * The temperatures of the replicas (in increasing order).
+	 */
+	private double[] temperatures;
+
+	/**
+	 * The acceptance rates of the exchanges (the rate of offset i is the one between the temperatures i and i + 1).
+	 */
+	private double[] swapAcceptanceRates;
+
+	/**
+	 * Create a parallel tempering solution.
+	 * 
+	 * @param state
+	 *            The state.
+	 * @param fitness
+	 *            The fitness value.
+	 * @param nbIterations
+	 *            The number of iterations.
+	 * @param completed
+	 *            True if the algorithm has completed, False if it has been cut off (cancelled or out of time).
+	 * @param temperatures
+	 *            The temperatures of the replicas (in increasing order).
+	 * @param swapAcceptanceRates
+	 *            The acceptance rates of the exchanges (the rate of offset i is the one between the temperatures i and i + 1).
+	 */
+	public ParallelTemperingSolution(int[] state, int fitness, int nbIterations, boolean completed, double[] temperatures, double[] swapAcceptanceRates) {
+		super(state, fitness, nbIterations, completed);
+		this.temperatures = temperatures;
+		this.swapAcceptanceRates = swapAcceptanceRates;
+	}
+
+	/**
+	 * Get the temperatures of the replicas (in increasing order).
+	 * 
+	 * @return The temperatures.
+	 */
+	public double[] getTemperatures() {
+		return this.temperatures;
+	}
+
+	/**
+	 * Set the temperatures of the replicas (in increasing order).
+	 * 
+	 * @param temperatures
+	 *            The temperatures to set.
+	 */
+	public void setTemperatures(double[] temperatures) {
+		this.temperatures = temperatures;
+	}
+
+	/**
+	 * Get the acceptance rates of the exchanges (the rate of offset i is the one between the temperatures i and i + 1).
+	 * 
+	 * @return The acceptance rates.
+	 */
+	public double[] getSwapAcceptanceRates() {
+		return this.swapAcceptanceRates;
+	}
+
+	/**
+	 * Set the acceptance rates of the exchanges (the rate of offset i is the one between the temperatures i and i + 1).
+	 * 
+	 * @param swapAcceptanceRates
+	 *            The acceptance rates to set.
+	 */
+	public void setSwapAcceptanceRates(double[] swapAcceptanceRates) {
+		this.swapAcceptanceRates = swapAcceptanceRates;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "ParallelTemperingSolution [temperatures=" + Arrays.toString(this.temperatures) + ", swapAcceptanceRates=" + Arrays.toString(this.swapAcceptanceRates) + ", nbIterations=" + getNbIterations() + ", completed=" + isCompleted() + ", state=" + Arrays.toString(this.state) + ", fitness=" + this.fitness + "]";
+	}
+}
\ No newline at end of file
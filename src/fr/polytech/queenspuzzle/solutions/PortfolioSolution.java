@@ -0,0 +1,90 @@
+package fr.polytech.queenspuzzle.solutions;
+
+import java.util.Arrays;
+
+/**
+ * This class represents a portfolio solution which contains for a given state its associated fitness value with the number of iterations to get it and the algorithm which found it.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class PortfolioSolution extends AdvancedSolution {
+
+	/**
+	 * The offset of the winning algorithm into the portfolio.
+	 */
+	private int winnerOffset;
+
+	/**
+	 * The name of the winning algorithm.
+	 */
+	private String winnerName;
+
+	/**
+	 * Create a portfolio solution.
+	 * 
+	 * @param state
+	 *            The state.
+	 * @param fitness
+	 *            The fitness value.
+	 * @param nbIterations
+	 *            The number of iterations.
+	 * @param completed
+	 *            True if the winning algorithm has completed, False if it has been cut off (cancelled or out of time).
+	 * @param winnerOffset
+	 *            The offset of the winning algorithm into the portfolio.
+	 * @param winnerName
+	 *            The name of the winning algorithm.
+	 */
+	public PortfolioSolution(int[] state, int fitness, int nbIterations, boolean completed, int winnerOffset, String winnerName) {
+		super(state, fitness, nbIterations, completed);
+		this.winnerOffset = winnerOffset;
+		this.winnerName = winnerName;
+	}
+
+	/**
+	 * Get the offset of the winning algorithm into the portfolio.
+	 * 
+	 * @return The offset of the winning algorithm.
+	 */
+	public int getWinnerOffset() {
+		return this.winnerOffset;
+	}
+
+	/**
+	 * Set the offset of the winning algorithm into the portfolio.
+	 * 
+	 * @param winnerOffset
+	 *            The offset of the winning algorithm to set.
+	 */
+	public void setWinnerOffset(int winnerOffset) {
+		this.winnerOffset = winnerOffset;
+	}
+
+	/**
+	 * Get the name of the winning algorithm.
+	 * 
+	 * @return The name of the winning algorithm.
+	 */
+	public String getWinnerName() {
+		return this.winnerName;
+	}
+
+	/**
+	 * Set the name of the winning algorithm.
+	 * 
+	 * @param winnerName
+	 *            The name of the winning algorithm to set.
+	 */
+	public void setWinnerName(String winnerName) {
+		this.winnerName = winnerName;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "PortfolioSolution [winnerOffset=" + this.winnerOffset + ", winnerName=" + this.winnerName + ", nbIterations=" + getNbIterations() + ", completed=" + isCompleted() + ", state=" + Arrays.toString(this.state) + ", fitness=" + this.fitness + "]";
+	}
+}
\ No newline at end of file
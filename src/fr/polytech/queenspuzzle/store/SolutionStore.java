@@ -0,0 +1,333 @@
+package fr.polytech.queenspuzzle.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import fr.polytech.queenspuzzle.ConstructiveQueenPuzzleSolver;
+import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
+
+/**
+ * This class represents a persistent store of verified solutions (one per number of queens), kept in an append-only file read through a memory mapping.
+ *
+ * The file begins with a magic number, followed by the records: the number of queens n (an int), then the lines of the columns packed at ceil(log2 n) bits per column into little-endian longs. The index (the offset of the record of each number of queens) is rebuilt by skipping from record to record when the store is opened, and a record truncated by a crash is cut off.
+ *
+ * The lookups read the mapping directly, without any copy of the file into the heap.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class SolutionStore implements Closeable {
+
+	/**
+	 * The magic number of the file ("QPS1").
+	 */
+	public static final int MAGIC_NUMBER = 0x51505331;
+
+	/**
+	 * The size of the header of the file (in bytes).
+	 */
+	private static final int FILE_HEADER_SIZE = Integer.BYTES;
+
+	/**
+	 * The size of the header of a record (in bytes).
+	 */
+	private static final int RECORD_HEADER_SIZE = Integer.BYTES;
+
+	/**
+	 * The channel of the file.
+	 */
+	private final FileChannel fileChannel;
+
+	/**
+	 * The offsets of the records (key = number of queens).
+	 */
+	private final Map<Integer, Integer> index;
+
+	/**
+	 * The mapping of the file (remapped after each append).
+	 */
+	private volatile MappedByteBuffer mapping;
+
+	/**
+	 * Open a solution store, or create it if the file doesn't exist.
+	 * 
+	 * @param path
+	 *            The path of the file.
+	 * @throws IOException
+	 *             If the file can't be opened, or isn't a solution store.
+	 */
+	public SolutionStore(Path path) throws IOException {
+		this.fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.index = new ConcurrentHashMap<Integer, Integer>();
+
+		try {
+			if (this.fileChannel.size() < FILE_HEADER_SIZE) {
+				final ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN).putInt(0, MAGIC_NUMBER);
+				this.fileChannel.truncate(0);
+				this.fileChannel.write(header, 0);
+			}
+
+			if (this.fileChannel.size() > Integer.MAX_VALUE) {
+				throw new IOException("The solution store " + path + " is too large to be mapped.");
+			}
+
+			this.mapping = map(this.fileChannel.size());
+			if (this.mapping.getInt(0) != MAGIC_NUMBER) {
+				throw new IOException("The file " + path + " isn't a solution store.");
+			}
+
+			buildIndex();
+		} catch (IOException | RuntimeException e) {
+			this.fileChannel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Get the number of bits per column of a board.
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @return The number of bits per column (ceil(log2 n), at least 1).
+	 */
+	public static int getNbBitsPerColumn(int nbQueens) {
+		return Math.max(32 - Integer.numberOfLeadingZeros(nbQueens - 1), 1);
+	}
+
+	/**
+	 * Get the size of the record of a board.
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @return The size of the record (in bytes).
+	 */
+	public static long getRecordSize(int nbQueens) {
+		final long nbBits = (long) nbQueens * getNbBitsPerColumn(nbQueens);
+		return RECORD_HEADER_SIZE + Long.BYTES * ((nbBits + Long.SIZE - 1) / Long.SIZE);
+	}
+
+	/**
+	 * Check if the store contains a solution.
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @return True if the store contains a solution, else False.
+	 */
+	public boolean contains(int nbQueens) {
+		return this.index.containsKey(nbQueens);
+	}
+
+	/**
+	 * Get the number of stored solutions.
+	 * 
+	 * @return The number of stored solutions.
+	 */
+	public int size() {
+		return this.index.size();
+	}
+
+	/**
+	 * Get a solution.
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @return The solution (without conflicts, with no iteration), or null if the store doesn't contain it.
+	 */
+	public AdvancedSolution get(int nbQueens) {
+		final Integer offset = this.index.get(nbQueens);
+		if (offset == null) {
+			return null;
+		}
+
+		final MappedByteBuffer mapping = this.mapping;
+		final int bitsPerColumn = getNbBitsPerColumn(nbQueens);
+		final long mask = (1L << bitsPerColumn) - 1;
+		final int wordsOffset = offset + RECORD_HEADER_SIZE;
+
+		// Decode the columns sequentially, loading each word once
+		final int[] state = new int[nbQueens];
+		long word = mapping.getLong(wordsOffset);
+		int wordOffset = 0;
+		int shift = 0;
+		for (int column = 0; column < nbQueens; column++) {
+			long line = word >>> shift;
+			shift += bitsPerColumn;
+			if (shift >= Long.SIZE) {
+				shift -= Long.SIZE;
+				if (column + 1 < nbQueens || shift > 0) {
+					word = mapping.getLong(wordsOffset + Long.BYTES * ++wordOffset);
+					if (shift > 0) {
+						line |= word << (bitsPerColumn - shift);
+					}
+				}
+			}
+
+			state[column] = (int) (line & mask);
+		}
+
+		return new AdvancedSolution(state, 0, 0, true);
+	}
+
+	/**
+	 * Get the line of a column of a solution, directly from the mapping.
+	 * 
+	 * @param nbQueens
+	 *            The number of queens.
+	 * @param column
+	 *            The column.
+	 * @return The line, or -1 if the store doesn't contain the solution.
+	 */
+	public int getLine(int nbQueens, int column) {
+		final Integer offset = this.index.get(nbQueens);
+		if (offset == null) {
+			return -1;
+		}
+
+		if (column < 0 || column >= nbQueens) {
+			throw new IndexOutOfBoundsException("The column " + column + " doesn't exist on a board of " + nbQueens + " queens.");
+		}
+
+		final MappedByteBuffer mapping = this.mapping;
+		final int bitsPerColumn = getNbBitsPerColumn(nbQueens);
+		final long bitIndex = (long) column * bitsPerColumn;
+		final int wordOffset = offset + RECORD_HEADER_SIZE + Long.BYTES * (int) (bitIndex >>> 6);
+		final int shift = (int) (bitIndex & (Long.SIZE - 1));
+
+		long line = mapping.getLong(wordOffset) >>> shift;
+		if (shift + bitsPerColumn > Long.SIZE) {
+			line |= mapping.getLong(wordOffset + Long.BYTES) << (Long.SIZE - shift);
+		}
+
+		return (int) (line & ((1L << bitsPerColumn) - 1));
+	}
+
+	/**
+	 * Append a solution, if the store doesn't already contain a solution of its number of queens.
+	 * 
+	 * @param state
+	 *            The state (it must be a solution without conflicts).
+	 * @return True if the solution has been appended, else False.
+	 * @throws IOException
+	 *             If the solution can't be written.
+	 */
+	public synchronized boolean put(int[] state) throws IOException {
+		final int nbQueens = state.length;
+		if (nbQueens == 0 || !ConstructiveQueenPuzzleSolver.isValid(state)) {
+			throw new IllegalArgumentException("The state isn't a solution without conflicts.");
+		}
+
+		if (contains(nbQueens)) {
+			return false;
+		}
+
+		final long recordSize = getRecordSize(nbQueens);
+		final long offset = this.fileChannel.size();
+		if (offset + recordSize > Integer.MAX_VALUE) {
+			throw new IOException("The solution store is full.");
+		}
+
+		final ByteBuffer record = ByteBuffer.allocate((int) recordSize).order(ByteOrder.LITTLE_ENDIAN);
+		record.putInt(nbQueens);
+
+		final int bitsPerColumn = getNbBitsPerColumn(nbQueens);
+		long word = 0;
+		int shift = 0;
+		for (int column = 0; column < nbQueens; column++) {
+			word |= (long) state[column] << shift;
+			shift += bitsPerColumn;
+			if (shift >= Long.SIZE) {
+				record.putLong(word);
+				shift -= Long.SIZE;
+				word = shift > 0 ? (long) state[column] >>> (bitsPerColumn - shift) : 0;
+			}
+		}
+
+		if (shift > 0) {
+			record.putLong(word);
+		}
+
+		record.flip();
+		while (record.hasRemaining()) {
+			this.fileChannel.write(record, offset + record.position());
+		}
+
+		// Publish the record only once it's readable through the mapping
+		this.mapping = map(offset + recordSize);
+		this.index.put(nbQueens, (int) offset);
+
+		return true;
+	}
+
+	/**
+	 * Force the appended solutions to the storage device.
+	 * 
+	 * @throws IOException
+	 *             If the file can't be forced.
+	 */
+	public void force() throws IOException {
+		this.fileChannel.force(false);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.fileChannel.close();
+	}
+
+	/**
+	 * Map the beginning of the file.
+	 * 
+	 * @param size
+	 *            The size of the mapping.
+	 * @return The mapping.
+	 * @throws IOException
+	 *             If the file can't be mapped.
+	 */
+	private MappedByteBuffer map(long size) throws IOException {
+		final MappedByteBuffer mapping = this.fileChannel.map(MapMode.READ_ONLY, 0, size);
+		mapping.order(ByteOrder.LITTLE_ENDIAN);
+
+		return mapping;
+	}
+
+	/**
+	 * Build the index by skipping from record to record, and cut off a truncated record.
+	 * 
+	 * @throws IOException
+	 *             If the file can't be truncated.
+	 */
+	private void buildIndex() throws IOException {
+		final long size = this.mapping.capacity();
+
+		long offset = FILE_HEADER_SIZE;
+		int nbQueens;
+		long recordSize;
+		while (offset + RECORD_HEADER_SIZE <= size) {
+			nbQueens = this.mapping.getInt((int) offset);
+			if (nbQueens <= 0) {
+				break;
+			}
+
+			recordSize = getRecordSize(nbQueens);
+			if (offset + recordSize > size) {
+				break;
+			}
+
+			this.index.putIfAbsent(nbQueens, (int) offset);
+			offset += recordSize;
+		}
+
+		if (offset < size) {
+			this.fileChannel.truncate(offset);
+			this.mapping = map(offset);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package fr.polytech.queenspuzzle.store;
+
+import java.io.IOException;
+
+import fr.polytech.queenspuzzle.algorithms.CancellationToken;
+import fr.polytech.queenspuzzle.algorithms.QueenPuzzleAlgorithmSolver;
+import fr.polytech.queenspuzzle.progress.ProgressReporter;
+import fr.polytech.queenspuzzle.solutions.AdvancedSolution;
+
+/**
+ * This class represents a queen puzzle algorithm solver which checks a solution store before searching, and stores the solutions without conflicts it finds.
+ *
+ * The progress of the searches is reported by the wrapped solver, so the listeners should be added to it.
+ *
+ * @author DELORME Loïc
+ * @since 1.0.0
+ */
+public class StoredQueenPuzzleAlgorithmSolver extends QueenPuzzleAlgorithmSolver {
+
+	/**
+	 * The solution store.
+	 */
+	private final SolutionStore solutionStore;
+
+	/**
+	 * The wrapped queen puzzle algorithm solver.
+	 */
+	private final QueenPuzzleAlgorithmSolver queenPuzzleAlgorithmSolver;
+
+	/**
+	 * Create a stored queen puzzle algorithm solver.
+	 * 
+	 * @param solutionStore
+	 *            The solution store.
+	 * @param queenPuzzleAlgorithmSolver
+	 *            The wrapped queen puzzle algorithm solver.
+	 */
+	public StoredQueenPuzzleAlgorithmSolver(SolutionStore solutionStore, QueenPuzzleAlgorithmSolver queenPuzzleAlgorithmSolver) {
+		super();
+		this.solutionStore = solutionStore;
+		this.queenPuzzleAlgorithmSolver = queenPuzzleAlgorithmSolver;
+	}
+
+	@Override
+	public int fitness(int[] queensState) {
+		return this.queenPuzzleAlgorithmSolver.fitness(queensState);
+	}
+
+	@Override
+	protected ProgressReporter createProgressReporter() {
+		return ProgressReporter.NONE;
+	}
+
+	@Override
+	protected AdvancedSolution solve(int[] initialState, CancellationToken cancellationToken, ProgressReporter progressReporter) {
+		final AdvancedSolution storedSolution = this.solutionStore.get(initialState.length);
+		if (storedSolution != null) {
+			return storedSolution;
+		}
+
+		final AdvancedSolution solution = this.queenPuzzleAlgorithmSolver.solve(initialState, cancellationToken);
+		if (solution.getFitness() == 0) {
+			try {
+				this.solutionStore.put(solution.getState());
+			} catch (IOException e) {
+				throw new IllegalStateException("The solution can't be stored.", e);
+			}
+		}
+
+		return solution;
+	}
+}
\ No newline at end of file